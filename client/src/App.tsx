@@ -13,7 +13,7 @@ import UserDetail from './pages/UserDetail';
 import WeatherDetail from './pages/WeatherDetail';
 import NotFound from './pages/NotFound';
 import { showToast } from './utils/Alert';
-import type { NewDeviceLoginMessage } from './types/dtos';
+import type { NewDeviceLoginMessage, TodoDueMessage } from './types/dtos';
 import './styles/toast.css';
 
 // Public Route - 로그인 되어 있으면 대시보드로 (로딩 상태 포함)
@@ -54,7 +54,7 @@ function PublicRoute({ children }: { children: React.ReactNode }) {
 function AppContent() {
   const { lastMessage } = useWebSocket();
 
-  // WebSocket 메시지 처리 (새 기기 로그인 알림)
+  // WebSocket 메시지 처리 (새 기기 로그인 알림, 할 일 마감 알림)
   useEffect(() => {
     if (!lastMessage) return;
 
@@ -63,6 +63,12 @@ function AppContent() {
       const loginMessage = lastMessage as NewDeviceLoginMessage;
       showToast(loginMessage.message, 'warning');
     }
+
+    // 할 일 마감 알림
+    if (lastMessage.type === 'TODO_DUE') {
+      const dueMessage = lastMessage as TodoDueMessage;
+      showToast(`마감: ${dueMessage.title}`, 'info');
+    }
   }, [lastMessage]);
 
   return (
@@ -1,5 +1,5 @@
 import axios from 'axios';
-import type { TodoDTO } from '../types/dtos';
+import type { TodoBatchOp, TodoDTO } from '../types/dtos';
 
 export const todoApi = {
   getTodos: async (): Promise<TodoDTO[]> => {
@@ -19,5 +19,11 @@ export const todoApi = {
 
   deleteTodo: async (id: number): Promise<void> => {
     await axios.delete(`/api/todos/${id}`);
+  },
+
+  // 여러 작업을 한 번에 (한 트랜잭션), 응답은 변경 후 전체 목록
+  batchTodos: async (operations: TodoBatchOp[]): Promise<TodoDTO[]> => {
+    const { data } = await axios.patch<TodoDTO[]>('/api/todos/batch', { operations });
+    return data;
   }
 };
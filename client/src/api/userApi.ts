@@ -26,8 +26,9 @@ export const userApi = {
     return data;
   },
 
-  logs: async () => {
-    const { data } = await axios.get<AccessLogDTO[]>('/api/users/logs');
+  // 내 접속 로그 (최신순 한 페이지, cursorId: 이전 페이지 마지막 로그의 id)
+  logs: async (params?: { cursorId?: number; size?: number }) => {
+    const { data } = await axios.get<AccessLogDTO[]>('/api/user/logs', { params });
     return data;
   },
 
@@ -1,7 +1,7 @@
 import React, { useEffect, useState } from 'react';
 import { FaCheckCircle, FaCircle, FaTrash, FaPlus, FaCalendarAlt, FaGoogle } from 'react-icons/fa';
 import { todoApi } from '../api/todoApi';
-import type { TodoDTO } from '../types/dtos';
+import type { TodoBatchOp, TodoDTO } from '../types/dtos';
 import { showToast } from '../utils/Alert';
 
 export default function TodoWidget() {
@@ -70,6 +70,32 @@ export default function TodoWidget() {
     }
   };
 
+  // 미완료 항목 모두 완료 (요청 1번)
+  const handleCompleteAll = async () => {
+    const targets = todos.filter(t => !t.isCompleted);
+    if (targets.length === 0) return;
+    try {
+      const data = await todoApi.batchTodos(
+        targets.map((t): TodoBatchOp => ({ op: 'UPDATE', id: t.id, todo: { ...t, isCompleted: true } }))
+      );
+      setTodos(data);
+    } catch {
+      showToast('상태 변경 실패', 'error');
+    }
+  };
+
+  // 완료된 항목 모두 삭제 (요청 1번)
+  const handleClearCompleted = async () => {
+    const targets = todos.filter(t => t.isCompleted);
+    if (targets.length === 0) return;
+    try {
+      const data = await todoApi.batchTodos(targets.map((t): TodoBatchOp => ({ op: 'DELETE', id: t.id })));
+      setTodos(data);
+    } catch {
+      showToast('삭제 실패', 'error');
+    }
+  };
+
   const getDDayBadge = (dueDateString?: string, isCompleted?: boolean) => {
     if (!dueDateString || isCompleted) return null;
     const today = new Date(); today.setHours(0, 0, 0, 0); 
@@ -133,6 +159,26 @@ export default function TodoWidget() {
         </div>
       </form>
 
+      {/* 일괄 작업 */}
+      {todos.length > 0 && (
+        <div style={{ display: 'flex', justifyContent: 'flex-end', gap: '8px', marginBottom: '10px', flexShrink: 0 }}>
+          <button
+            onClick={handleCompleteAll}
+            disabled={!todos.some(t => !t.isCompleted)}
+            style={{ background: 'none', border: '1px solid #444', color: '#aaa', borderRadius: '4px', padding: '4px 8px', fontSize: '12px', cursor: 'pointer' }}
+          >
+            모두 완료
+          </button>
+          <button
+            onClick={handleClearCompleted}
+            disabled={!todos.some(t => t.isCompleted)}
+            style={{ background: 'none', border: '1px solid #444', color: '#aaa', borderRadius: '4px', padding: '4px 8px', fontSize: '12px', cursor: 'pointer' }}
+          >
+            완료 항목 삭제
+          </button>
+        </div>
+      )}
+
       {/* 2. 할 일 목록 */}
       <div style={{ flex: 1, overflowY: 'auto', paddingRight: '5px' }}>
         {todos.length === 0 ? (
@@ -16,7 +16,7 @@ export function isWebSocketMessage(data: unknown): data is WebSocketMessage {
   if (typeof data !== 'object' || data === null) return false;
   const type = (data as { type?: unknown }).type;
   return typeof type === 'string' && 
-    ['SYSTEM_STATUS', 'CHAT', 'USER_UPDATE', 'MEMO_UPDATE', 'FORCE_LOGOUT'].includes(type);
+    ['SYSTEM_STATUS', 'CHAT', 'USER_UPDATE', 'MEMO_UPDATE', 'FORCE_LOGOUT', 'CODE_STATS', 'TODO_DUE'].includes(type);
 }
 
 
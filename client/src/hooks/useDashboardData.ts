@@ -133,6 +133,14 @@ export const useDashboardData = () => {
           break;
         }
 
+        case 'CODE_STATS': {
+          // 서버가 파일 변경을 감지해 보낸 최신 통계로 바로 교체 (재요청 없음)
+          const chartData = Object.entries(lastMessage.stats).map(([name, value]) => ({ name, value }));
+          chartData.sort((a, b) => b.value - a.value);
+          queryClient.setQueryData(['codeStats'], chartData as CodeData[]);
+          break;
+        }
+
         case 'MEMO_UPDATE': {
           /**
            * [해결] 메모 실시간 동기화 강화
@@ -1,4 +1,4 @@
-import { useEffect, useState } from 'react';
+import { useCallback, useEffect, useState } from 'react';
 import { FaChrome, FaDesktop, FaEdge, FaFirefox, FaMobileAlt, FaQuestionCircle, FaSafari } from 'react-icons/fa';
 import { useNavigate, useParams } from 'react-router-dom';
 import { userApi } from '../api/userApi';
@@ -6,22 +6,35 @@ import type { AccessLogDTO } from '../types/dtos';
 import { showAlert } from '../utils/Alert';
 import { devError } from '../utils/logger';
 
+// 한 번에 불러오는 로그 수 (서버 최대 100)
+const PAGE_SIZE = 50;
+
 export default function UserDetail() {
   const { userId } = useParams();
   const navigate = useNavigate();
   const [logs, setLogs] = useState<AccessLogDTO[]>([]);
+  const [hasMore, setHasMore] = useState(false); // 페이지가 가득 찼으면 더 오래된 로그가 있을 수 있음
+  const [loading, setLoading] = useState(false);
 
-  useEffect(() => {
-    // API 호출
-    userApi.logs()
+  // cursorId가 없으면 첫 페이지, 있으면 그 로그보다 오래된 로그를 이어 붙임
+  const loadLogs = useCallback((cursorId?: number) => {
+    setLoading(true);
+    userApi.logs({ cursorId, size: PAGE_SIZE })
       .then(data => {
-        setLogs(data);
+        setLogs(prev => (cursorId === undefined ? data : [...prev, ...data]));
+        setHasMore(data.length === PAGE_SIZE);
       })
       .catch(e => {
         devError(e);
         showAlert('오류 발생', '로그 조회 실패.', 'error');
-      });
-  }, [userId]);
+      })
+      .finally(() => setLoading(false));
+  }, []);
+
+  useEffect(() => {
+    // API 호출
+    loadLogs();
+  }, [userId, loadLogs]);
 
   // [수정 1] 날짜 포맷팅 함수 (보기 좋은 형태로 변환)
   const formatDate = (dateString: string) => {
@@ -97,6 +110,16 @@ export default function UserDetail() {
       color: '#f87171', // 밝은 빨간색
       fontWeight: 'bold'
     },
+    moreButton: {
+      display: 'block',
+      margin: '16px auto 0',
+      padding: '8px 24px',
+      backgroundColor: '#333',
+      color: 'white',
+      border: '1px solid #555',
+      borderRadius: '4px',
+      cursor: 'pointer'
+    },
     infoTag: {
       display: 'inline-flex',
       alignItems: 'center',
@@ -159,6 +182,16 @@ export default function UserDetail() {
           )}
         </tbody>
       </table>
+
+      {hasMore && (
+        <button
+          onClick={() => loadLogs(logs[logs.length - 1]?.id)}
+          disabled={loading}
+          style={styles.moreButton}
+        >
+          {loading ? '불러오는 중...' : '더 보기'}
+        </button>
+      )}
     </div>
   );
 }
\ No newline at end of file
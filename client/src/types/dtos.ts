@@ -119,6 +119,13 @@ export interface TodoDTO {
   updatedAt?: string;
 }
 
+// TodoBatchReq.java 대응 (PATCH /api/todos/batch)
+export interface TodoBatchOp {
+  op: 'CREATE' | 'UPDATE' | 'DELETE';
+  id?: number;
+  todo?: Partial<TodoDTO>;
+}
+
 // 7. CodeStatsService.java 대응 (Map<String, Object> 반환)
 export interface CodeStatsDTO {
   [language: string]: number;
@@ -160,6 +167,8 @@ export type ErrorCode =
 export interface UserUpdateMessage {
   type: 'USER_UPDATE';
   onlineUserCount: number;
+  joined?: string[]; // 방송 창 동안 새로 접속한 userId
+  left?: string[];   // 방송 창 동안 접속 종료한 userId
 }
 
 // 2. 채팅 메시지 (ChatService.java)
@@ -191,6 +200,21 @@ export interface NewDeviceLoginMessage {
   message: string;
 }
 
+// 6. 코드 통계 갱신 (CodeStatsService.java - 파일 변경 감시)
+export interface CodeStatsMessage {
+  type: 'CODE_STATS';
+  stats: Record<string, number>;
+}
+
+// 7. 할 일 마감 알림 (TodoReminderService.java - 타이밍 휠)
+export interface TodoDueMessage {
+  type: 'TODO_DUE';
+  todoId: number;
+  title: string;
+  dueDate: string;
+  timestamp: number;
+}
+
 // 모든 소켓 메시지의 합집합 (Discriminated Union)
 export type WebSocketMessage =
   | SystemStatusMessage
@@ -198,7 +222,9 @@ export type WebSocketMessage =
   | ChatMessage
   | MemoUpdateMessage
   | ForceLogoutMessage
-  | NewDeviceLoginMessage;
+  | NewDeviceLoginMessage
+  | CodeStatsMessage
+  | TodoDueMessage;
 
 // 클라이언트 발신용 타입
 export interface SendChatMessage {
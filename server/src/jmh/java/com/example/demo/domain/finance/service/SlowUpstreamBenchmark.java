@@ -0,0 +1,145 @@
+package com.example.demo.domain.finance.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestClient;
+
+import com.example.demo.domain.finance.dto.StockRes;
+import com.example.demo.global.config.HttpClientConfig;
+import com.example.demo.global.config.HttpClientProperties;
+import com.example.demo.global.metrics.UpstreamMetrics;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 느린 외부 API 조건에서 플랫폼 스레드 풀 vs 가상 스레드 처리량
+ * <p>
+ * 로컬 HttpServer가 Frankfurter 응답을 지연(upstreamDelayMs) 후 돌려주고,
+ * 동시 요청 {@value #REQUESTS}개가 각각 FinanceService.getExchangeRates()(외부 호출 4회)를 실행합니다.
+ * platform은 Tomcat 기본 최대 스레드 수(200)의 고정 풀, virtual은 요청마다 가상 스레드이며
+ * RestClient 설정은 운영과 같은 HttpClientConfig를 spring.threads.virtual.enabled 값만 바꿔서 사용합니다.
+ * 결과 단위는 요청/초입니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class SlowUpstreamBenchmark {
+
+    private static final int REQUESTS = 1000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final byte[] RATE_JSON =
+            "{\"amount\":1.0,\"base\":\"USD\",\"date\":\"2026-01-07\",\"rates\":{\"KRW\":1450.5}}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"50", "200"})
+    private int upstreamDelayMs;
+
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+    private ExecutorService requestExecutor;
+    private FinanceService financeService;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        // 지연 응답 서버 (서버 쪽이 병목이 되지 않도록 요청마다 가상 스레드)
+        upstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/", exchange -> {
+            try {
+                Thread.sleep(upstreamDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RATE_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(RATE_JSON);
+            }
+        });
+        upstream.start();
+
+        boolean virtual = "virtual".equals(threads);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", String.valueOf(virtual));
+        HttpClientConfig httpClientConfig = new HttpClientConfig(new HttpClientProperties());
+
+        // api.frankfurter.app 요청을 로컬 서버로 돌림 (경로/쿼리는 그대로)
+        int port = upstream.getAddress().getPort();
+        RestClient.Builder builder = RestClient.builder()
+                .requestInterceptor((request, body, execution) -> execution.execute(new HttpRequestWrapper(request) {
+                    @Override
+                    public URI getURI() {
+                        URI uri = request.getURI();
+                        return URI.create("http://127.0.0.1:" + port + uri.getRawPath() + "?" + uri.getRawQuery());
+                    }
+                }, body));
+        httpClientConfig.jdkRequestFactoryCustomizer(environment).customize(builder);
+        financeService = new FinanceService(builder, new UpstreamMetrics(new SimpleMeterRegistry()));
+
+        requestExecutor = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int exchangeRates() throws Exception {
+        List<Future<List<StockRes>>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(requestExecutor.submit(financeService::getExchangeRates));
+        }
+        // 실패한 호출은 0원으로 빨리 끝나므로 성공한 환율 수를 확인 (측정이 실패 경로가 되지 않도록)
+        int rates = 0;
+        for (Future<List<StockRes>> future : futures) {
+            for (StockRes stock : future.get()) {
+                if (stock.getPrice().signum() > 0) {
+                    rates++;
+                }
+            }
+        }
+        if (rates == 0) {
+            throw new IllegalStateException("upstream calls failed");
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.domain.stats.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.example.demo.domain.stats.dto.CodeStatsDetailRes;
+import com.example.demo.global.config.CodeStatsProperties;
+
+/**
+ * CodeStatsService 스캔 비용 (임시 폴더에 만든 가상 소스 트리 기준)
+ * - coldScan: 스냅샷 없이 처음 기동했을 때 (모든 파일 읽기)
+ * - warmScan: 감시를 끈 상태의 요청 1건 (탐색 + 속성 비교만, 바뀐 파일 없음)
+ * - detail: 파일별 결과를 모듈/패키지로 다시 묶는 비용
+ * - countFile: 큰 파일 1개 줄 분류
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodeStatsServiceBenchmark {
+
+    @Param({"200", "2000"})
+    private int fileCount;
+
+    private Path root;
+    private Path largeFile;
+    private CodeStatsService warmService;
+    private CodeStatsService coldService;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("code-stats-bench");
+        Path tree = root.resolve("tree");
+        String javaSource = javaSource();
+        String tsxSource = tsxSource();
+        for (int i = 0; i < fileCount; i++) {
+            // server/src/main/java/... 와 client/src/... 를 반반씩 흉내냄
+            if (i % 2 == 0) {
+                Path dir = tree.resolve("server/src/main/java/com/example/demo/domain/pkg" + (i % 20));
+                Files.createDirectories(dir);
+                Files.writeString(dir.resolve("Sample" + i + ".java"), javaSource);
+            } else {
+                Path dir = tree.resolve("client/src/components/widget" + (i % 20));
+                Files.createDirectories(dir);
+                Files.writeString(dir.resolve("Sample" + i + ".tsx"), tsxSource);
+            }
+        }
+        // 제외 폴더는 탐색하지 않아야 함
+        Path nodeModules = tree.resolve("client/node_modules/lib");
+        Files.createDirectories(nodeModules);
+        Files.writeString(nodeModules.resolve("index.ts"), tsxSource);
+
+        largeFile = root.resolve("Large.java");
+        Files.writeString(largeFile, javaSource.repeat(200));
+
+        warmService = newService("warm.bin");
+        warmService.getCodeStatistics(); // 첫 스캔으로 파일별 결과 채움
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        warmService.shutdown();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void newColdService() {
+        coldService = newService("cold.bin"); // 저장하지 않으므로 항상 스냅샷 없음
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeColdService() {
+        coldService.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, Long> coldScan() {
+        return coldService.getCodeStatistics();
+    }
+
+    @Benchmark
+    public Map<String, Long> warmScan() {
+        return warmService.getCodeStatistics();
+    }
+
+    @Benchmark
+    public CodeStatsDetailRes detail() {
+        return warmService.getCodeDetail();
+    }
+
+    @Benchmark
+    public SourceLineCounter.LineCounts countFile() throws IOException {
+        return SourceLineCounter.count(largeFile, true);
+    }
+
+    // 감시는 끄고 임시 트리만 대상으로 함 (절대 경로는 프로젝트 루트와 상관없이 그대로 사용됨)
+    private CodeStatsService newService(String snapshotName) {
+        CodeStatsProperties properties = new CodeStatsProperties();
+        properties.setWatchEnabled(false);
+        properties.setPushEnabled(false);
+        properties.setWatchDirs(List.of(root.resolve("tree").toString()));
+        properties.setSnapshotPath(root.resolve(snapshotName).toString());
+        return new CodeStatsService(properties, null);
+    }
+
+    private static String javaSource() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package com.example.demo.domain.sample;\n\n");
+        sb.append("import java.util.List;\n\n");
+        sb.append("/**\n * 샘플 서비스\n * - 벤치마크용 가상 소스\n */\n");
+        sb.append("public class Sample {\n");
+        for (int i = 0; i < 20; i++) {
+            sb.append("\n    // ").append(i).append("번 메서드\n");
+            sb.append("    public int method").append(i).append("(List<String> items) {\n");
+            sb.append("        String url = \"http://localhost/api/").append(i).append("\"; /* 주석 */\n");
+            sb.append("        return items.size() / 2 + url.length();\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static String tsxSource() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("import { useState } from 'react';\n\n");
+        sb.append("// 샘플 위젯\n");
+        sb.append("export default function Sample() {\n");
+        sb.append("  const [count, setCount] = useState(0);\n\n");
+        for (int i = 0; i < 15; i++) {
+            sb.append("  /* ").append(i).append(" */\n");
+            sb.append("  const label").append(i).append(" = `count: ${count}`;\n");
+        }
+        sb.append("  return <button onClick={() => setCount(count + 1)}>{label0}</button>;\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.domain.weather.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestClient;
+
+import com.example.demo.domain.weather.dto.WeatherRes;
+import com.example.demo.global.metrics.UpstreamMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * OpenMeteoService 응답 처리 비용 (JSON 역직렬화 + 파싱 + 시간대별 병합/정렬)
+ * <p>
+ * RestClient의 요청 팩토리를 고정 응답(fixtures/*.json)으로 바꿔서 네트워크 없이 실행합니다.
+ * 캐시 프록시를 거치지 않으므로 매 호출이 캐시 미스 경로입니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenMeteoParseBenchmark {
+
+    // 고정 응답의 첫 날짜 (실행일 기준으로 옮겨서 "현재 이후" 필터가 실제처럼 동작하게 함)
+    private static final LocalDate FIXTURE_START = LocalDate.of(2026, 1, 7);
+    private static final int FIXTURE_DAYS = 7;
+
+    private OpenMeteoService openMeteoService;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] forecast = shiftDates(readFixture("fixtures/open-meteo-forecast.json"));
+        byte[] geocode = readFixture("fixtures/nominatim-reverse.json").getBytes(StandardCharsets.UTF_8);
+
+        RestClient.Builder builder = RestClient.builder().requestFactory((uri, method) -> {
+            byte[] body = "nominatim.openstreetmap.org".equals(uri.getHost()) ? geocode : forecast;
+            MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(response);
+            return request;
+        });
+        openMeteoService = new OpenMeteoService(builder, new UpstreamMetrics(new SimpleMeterRegistry()));
+    }
+
+    // 상세 페이지 (시간별 26개 + 주간 예보)
+    @Benchmark
+    public WeatherRes detail() {
+        return openMeteoService.getWeather(37.5665, 126.9780, 26, true);
+    }
+
+    // 대시보드 위젯 (시간별 일부, 주간 예보 없음)
+    @Benchmark
+    public WeatherRes widget() {
+        return openMeteoService.getWeather(37.5665, 126.9780, 6, false);
+    }
+
+    private static String readFixture(String name) throws IOException {
+        try (InputStream in = OpenMeteoParseBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // 고정 응답의 날짜를 오늘부터로 옮김 (뒤 날짜부터 바꿔야 겹치지 않음)
+    private static byte[] shiftDates(String json) {
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        for (int i = FIXTURE_DAYS - 1; i >= 0; i--) {
+            json = json.replace(FIXTURE_START.plusDays(i).toString(), today.plusDays(i).toString());
+        }
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.demo.global.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import com.example.demo.domain.memo.entity.Memo;
+import com.example.demo.domain.memo.mapper.MemoMapper;
+import com.example.demo.domain.user.entity.Session;
+import com.example.demo.domain.user.mapper.SessionMapper;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 데이터 소스 프로필별 매퍼 주요 경로 비교 (embedded vs h2-server)
+ * <p>
+ * 각 프로필 yml의 spring.datasource.url을 그대로 읽어서 경로만 임시 폴더로 바꾸고,
+ * application.yml과 같은 크기의 Hikari 풀 + Flyway 스크립트로 DB를 만듭니다.
+ * 요청 스레드 여러 개가 동시에 쓰는 상황을 보기 위해 4개 스레드로 실행합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class DataSourceProfileBenchmark {
+
+    private static final int POOL_SIZE = 10; // application.yml의 DB_POOL_SIZE 기본값
+    private static final String USER_ID = "bench";
+    private static final int MEMO_COUNT = 50;
+
+    @Param({"embedded", "h2-server"})
+    private String profile;
+
+    private Path dataDir;
+    private HikariDataSource dataSource;
+    private SessionMapper sessionMapper;
+    private MemoMapper memoMapper;
+    private Long sessionId;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        dataDir = Files.createTempDirectory("datasource-bench");
+        String url = profileUrl(profile).replace("./data/demo", dataDir.resolve("demo").toString().replace('\\', '/'));
+
+        HikariConfig hikari = new HikariConfig();
+        hikari.setJdbcUrl(url);
+        hikari.setUsername("sa");
+        hikari.setPassword("");
+        hikari.setMaximumPoolSize(POOL_SIZE);
+        hikari.setMinimumIdle(POOL_SIZE);
+        dataSource = new HikariDataSource(hikari);
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        try (var conn = dataSource.getConnection(); var stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO users (id, name, password, role) VALUES ('" + USER_ID + "', 'bench', 'x', 'USER')");
+        }
+
+        // application.yml의 mybatis 설정과 동일 (map-underscore-to-camel-case)
+        Configuration configuration = new Configuration(
+                new Environment("bench", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.addMapper(SessionMapper.class);
+        configuration.addMapper(MemoMapper.class);
+        SqlSessionManager sqlSession = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(configuration));
+        sessionMapper = sqlSession.getMapper(SessionMapper.class);
+        memoMapper = sqlSession.getMapper(MemoMapper.class);
+
+        Session session = Session.builder()
+                .userId(USER_ID).refreshToken("bench-refresh").deviceType("Desktop")
+                .deviceId("bench-device").keepLogin(false).build();
+        sessionMapper.insertSession(session);
+        sessionId = session.getId();
+        for (int i = 0; i < MEMO_COUNT; i++) {
+            memoMapper.save(newMemo("memo " + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        dataSource.close();
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // 인증 필터: 요청마다 세션 확인 + 접속 시간 갱신 (읽기 1 + 쓰기 1)
+    @Benchmark
+    public Session authSessionCheck() {
+        Session session = sessionMapper.findBySessionId(sessionId);
+        sessionMapper.updateLastAccessedAt(sessionId);
+        return session;
+    }
+
+    // 대시보드: 메모 목록 (캐시 미스 경로)
+    @Benchmark
+    public List<Memo> memoList() {
+        return memoMapper.findAll(USER_ID);
+    }
+
+    // 메모 저장: 커밋마다 디스크 반영 비용 (WRITE_DELAY 영향)
+    @Benchmark
+    public void memoInsert() {
+        memoMapper.save(newMemo("bench memo"));
+    }
+
+    private static Memo newMemo(String content) {
+        Memo memo = new Memo();
+        memo.setUserId(USER_ID);
+        memo.setContent(content);
+        return memo;
+    }
+
+    // 프로필 yml에서 spring.datasource.url 읽기 (설정과 벤치마크가 어긋나지 않도록)
+    private static String profileUrl(String profile) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application-" + profile + ".yml"));
+        Properties properties = yaml.getObject();
+        if (properties == null || properties.getProperty("spring.datasource.url") == null) {
+            throw new IllegalStateException("spring.datasource.url not found for profile " + profile);
+        }
+        return properties.getProperty("spring.datasource.url");
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.global.security;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.demo.domain.user.entity.Session;
+import com.example.demo.domain.user.mapper.SessionMapper;
+import com.example.demo.domain.user.mapper.UserMapper;
+import com.example.demo.global.constant.SecurityConstants;
+import com.example.demo.global.util.CookieUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * JwtAuthenticationFilter 요청 1건 전체 비용 (JWT 검증 + 세션 조회 + 사용자 조회 + 접속 시간 갱신)
+ * <p>
+ * Spring 컨텍스트 없이 인메모리 H2에 Flyway 스크립트를 그대로 적용하고,
+ * 운영과 같은 MyBatis 매퍼 인터페이스로 DB를 조회합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private Connection keepAlive; // 마지막 연결이 닫혀도 인메모리 DB가 사라지지 않도록 유지
+    private JwtAuthenticationFilter filter;
+    private String validToken;
+    private String revokedToken;
+
+    @Setup
+    public void setup() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jwt-filter-bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        keepAlive = dataSource.getConnection();
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        try (Statement stmt = keepAlive.createStatement()) {
+            stmt.execute("INSERT INTO users (id, name, password, role) VALUES ('bench', 'bench', 'x', 'USER')");
+        }
+
+        // application.yml의 mybatis 설정과 동일 (map-underscore-to-camel-case)
+        Configuration configuration = new Configuration(
+                new Environment("bench", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.addMapper(SessionMapper.class);
+        configuration.addMapper(UserMapper.class);
+        // 호출마다 세션을 열고 커밋하는 방식 (Spring의 SqlSessionTemplate와 같은 사용감)
+        SqlSessionManager sqlSession = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(configuration));
+        SessionMapper sessionMapper = sqlSession.getMapper(SessionMapper.class);
+        UserMapper userMapper = sqlSession.getMapper(UserMapper.class);
+
+        JwtTokenProvider jwtTokenProvider = JwtTokenProviderBenchmark.newProvider(new CustomUserDetailsService(userMapper));
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, sessionMapper, new CookieUtil(), new SimpleMeterRegistry());
+
+        Session session = Session.builder()
+                .userId("bench").refreshToken("bench-refresh").deviceType("Desktop")
+                .deviceId("bench-device").keepLogin(false).build();
+        sessionMapper.insertSession(session);
+        validToken = jwtTokenProvider.createAccessToken("bench", session.getId());
+        revokedToken = jwtTokenProvider.createAccessToken("bench", session.getId() + 1_000_000L);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        keepAlive.close();
+    }
+
+    // 정상 토큰: 모든 단계를 통과하는 가장 흔한 경로
+    @Benchmark
+    public int authenticated() throws Exception {
+        return doFilter(validToken);
+    }
+
+    // 강퇴된 세션: DB 조회 후 401
+    @Benchmark
+    public int revokedSession() throws Exception {
+        return doFilter(revokedToken);
+    }
+
+    // 토큰 없음: 필터를 그냥 통과
+    @Benchmark
+    public int anonymous() throws Exception {
+        return doFilter(null);
+    }
+
+    private int doFilter(String token) throws Exception {
+        // OncePerRequestFilter는 요청 객체에 처리 표시를 남기므로 매번 새로 만듦
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/memo");
+        if (token != null) {
+            request.addHeader(SecurityConstants.AUTH_HEADER, SecurityConstants.TOKEN_PREFIX + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.global.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.example.demo.global.config.JwtProperties;
+
+/**
+ * JwtTokenProvider 발급/검증 비용
+ * - 요청마다 거치는 validateToken + getSessionId (필터 3단계까지의 순수 JWT 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        jwtTokenProvider = newProvider((username) -> User.withUsername(username).password("").roles("USER").build());
+        accessToken = jwtTokenProvider.createAccessToken("bench", 1L);
+    }
+
+    // application.yml 기본값과 같은 설정으로 생성
+    static JwtTokenProvider newProvider(UserDetailsService userDetailsService) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("MySuperSecretKeyForSpringTutorialProject2026!!KeepItSafe");
+        jwtProperties.setAccessTokenValidityInSeconds(1800);
+        jwtProperties.setRefreshTokenValidityInSeconds(604800);
+        JwtTokenProvider provider = new JwtTokenProvider(jwtProperties, userDetailsService);
+        provider.init();
+        return provider;
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken("bench", 1L);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtTokenProvider.createRefreshToken("bench");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    // 필터가 실제로 하는 순서 (검증 후 세션 ID 추출 -> 파싱 2회)
+    @Benchmark
+    public Long validateAndGetSessionId() {
+        if (!jwtTokenProvider.validateToken(accessToken)) {
+            return null;
+        }
+        return jwtTokenProvider.getSessionId(accessToken);
+    }
+}
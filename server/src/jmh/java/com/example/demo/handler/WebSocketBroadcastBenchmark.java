@@ -0,0 +1,193 @@
+package com.example.demo.handler;
+
+import static org.mockito.Mockito.mock;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.demo.domain.chat.service.ChatService;
+import com.example.demo.domain.stats.service.SystemStatusService;
+import com.example.demo.domain.user.service.SessionService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * WebSocketHandler.broadcast 비용 (접속자 수별)
+ * <p>
+ * 실제 소켓 대신 전송 바이트 수만 세는 세션을 연결하므로, 직렬화 + 세션 순회 + 세션 잠금 비용만 측정됩니다.
+ * 협력 객체(ChatService 등)는 연결 단계에서만 쓰이므로 Mockito 목으로 대체합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebSocketBroadcastBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int sessionCount;
+
+    private WebSocketHandler webSocketHandler;
+    private final List<CountingSession> sessions = new ArrayList<>();
+    private Map<String, Object> systemStatus;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        webSocketHandler = new WebSocketHandler(
+                mock(ChatService.class), mock(SystemStatusService.class), mock(SessionService.class),
+                new SimpleMeterRegistry());
+        for (int i = 0; i < sessionCount; i++) {
+            CountingSession session = new CountingSession("bench-" + i, "user" + (i % 50));
+            webSocketHandler.afterConnectionEstablished(session);
+            sessions.add(session);
+        }
+
+        // SystemStatusScheduler가 0.5초마다 보내는 메시지와 비슷한 크기
+        systemStatus = new HashMap<>();
+        systemStatus.put("type", "SYSTEM_STATUS");
+        systemStatus.put("cpu", 12.5);
+        systemStatus.put("cpuPercent", 12.5);
+        systemStatus.put("memory", 10.24);
+        systemStatus.put("memoryPercent", 63.2);
+        systemStatus.put("time", "12:34:56");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        // sessions는 static 집합이므로 다음 @Param 실행 전에 비워야 함
+        for (CountingSession session : sessions) {
+            webSocketHandler.afterConnectionClosed(session, CloseStatus.NORMAL);
+        }
+        sessions.clear();
+    }
+
+    // Map -> JSON 변환 포함 (외부 서비스가 호출하는 경로)
+    @Benchmark
+    public void broadcastMap() throws Exception {
+        webSocketHandler.broadcast(systemStatus);
+    }
+
+    // 이미 만든 JSON 문자열 방송 (세션 순회 비용만)
+    @Benchmark
+    public void broadcastJson() {
+        webSocketHandler.broadcast("{\"type\":\"USER_UPDATE\",\"onlineUserCount\":3}");
+    }
+
+    /**
+     * 보낸 바이트 수만 기록하는 세션
+     */
+    static final class CountingSession implements WebSocketSession {
+        private final String id;
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>(); // 실제 세션과 같은 타입
+        long sentBytes;
+
+        CountingSession(String id, String userId) {
+            this.id = id;
+            this.attributes.put("userId", userId); // JwtHandshakeInterceptor가 넣는 값
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            sentBytes += ((TextMessage) message).getPayloadLength();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return URI.create("ws://localhost:8080/ws");
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+        }
+    }
+}
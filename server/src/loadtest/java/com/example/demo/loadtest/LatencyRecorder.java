@@ -0,0 +1,35 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 수신 지연 기록 (마이크로초)
+ * 수신 스레드 여러 개가 동시에 기록하므로 동기화하고, 끝난 뒤 한 번 정렬해서 백분위를 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private long[] values = new long[1 << 16];
+    private int size = 0;
+
+    synchronized void record(long micros) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = micros;
+    }
+
+    synchronized long[] sortedSnapshot() {
+        long[] copy = Arrays.copyOf(values, size);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    // 정렬된 배열에서 백분위 값 (ms)
+    static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 옵션 (Gradle -Pws.xxx=값 -> 시스템 프로퍼티 ws.xxx)
+ *
+ * <pre>
+ * ws.baseUrl      대상 서버 (기본 http://localhost:8080)
+ * ws.managementUrl 대상 서버의 관리 포트, 메트릭 조회용 (기본 http://localhost:8081)
+ * ws.users        동시 접속 수 (기본 100)
+ * ws.accounts     로그인 계정 목록 id:password,... (기본 admin:1234)
+ *                 접속 수보다 계정이 적으면 돌려 쓰되 deviceId를 달리해 접속마다 별도 세션을 만듦
+ * ws.rampSeconds  접속을 나눠서 여는 시간 (기본 10)
+ * ws.duration     메시지 전송 시간, 초 (기본 60)
+ * ws.rate         초당 전송 메시지 수, 전체 합 (기본 20)
+ * ws.chatRatio    CHAT 비율 0~1, 나머지는 MEMO (기본 0.5, CHAT은 chat_messages에 저장됨)
+ * ws.drainSeconds 전송 종료 후 수신 대기 시간 (기본 5)
+ * ws.maxP99Ms     p99 지연 상한 (초과 시 실패 종료, 0이면 검사 안 함)
+ * ws.maxDropRate  유실률 상한 0~1 (초과 시 실패 종료, 음수면 검사 안 함)
+ * </pre>
+ */
+record LoadTestOptions(
+        String baseUrl,
+        String managementUrl,
+        int users,
+        List<String[]> accounts,
+        int rampSeconds,
+        int durationSeconds,
+        double rate,
+        double chatRatio,
+        int drainSeconds,
+        double maxP99Ms,
+        double maxDropRate) {
+
+    static LoadTestOptions fromSystemProperties() {
+        List<String[]> accounts = new ArrayList<>();
+        for (String account : System.getProperty("ws.accounts", "admin:1234").split(",")) {
+            String[] pair = account.trim().split(":", 2);
+            if (pair.length == 2 && !pair[0].isEmpty()) {
+                accounts.add(pair);
+            }
+        }
+        if (accounts.isEmpty()) {
+            throw new IllegalArgumentException("ws.accounts 형식이 잘못되었습니다 (id:password,...)");
+        }
+        return new LoadTestOptions(
+                stripSlash(System.getProperty("ws.baseUrl", "http://localhost:8080")),
+                stripSlash(System.getProperty("ws.managementUrl", "http://localhost:8081")),
+                Integer.getInteger("ws.users", 100),
+                accounts,
+                Integer.getInteger("ws.rampSeconds", 10),
+                Integer.getInteger("ws.duration", 60),
+                Double.parseDouble(System.getProperty("ws.rate", "20")),
+                Double.parseDouble(System.getProperty("ws.chatRatio", "0.5")),
+                Integer.getInteger("ws.drainSeconds", 5),
+                Double.parseDouble(System.getProperty("ws.maxP99Ms", "0")),
+                Double.parseDouble(System.getProperty("ws.maxDropRate", "-1")));
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    String wsUrl() {
+        return baseUrl.replaceFirst("^http", "ws") + "/ws";
+    }
+}
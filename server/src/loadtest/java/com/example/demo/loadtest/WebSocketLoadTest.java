@@ -0,0 +1,489 @@
+package com.example.demo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 통합 웹소켓(/ws) 부하 테스트
+ * <p>
+ * 실행 중인 서버에 가상 사용자 N명으로 로그인해서 JwtHandshakeInterceptor를 거쳐 웹소켓 N개를 열고,
+ * 정해진 속도로 CHAT / MEMO 메시지를 보내면서 다음을 기록합니다.
+ * </p>
+ * <ul>
+ *   <li>방송 지연: 보낸 시각부터 각 접속이 같은 메시지를 받을 때까지 (p50/p90/p99/p99.9/max)</li>
+ *   <li>유실: 보낼 때 열려 있던 접속 수만큼 받아야 하는데 받지 못한 프레임 수</li>
+ *   <li>서버 상태: Actuator의 JVM 힙 / 프로세스 CPU (노출된 경우) + SYSTEM_STATUS 방송의 시스템 CPU/메모리</li>
+ * </ul>
+ * <p>
+ * 실행: ./gradlew wsLoadTest -Pws.users=200 -Pws.duration=60 (옵션은 LoadTestOptions 참고)
+ * 기준(ws.maxP99Ms, ws.maxDropRate)을 넘으면 0이 아닌 코드로 끝나므로 회귀 검사에 쓸 수 있습니다.
+ * </p>
+ */
+public class WebSocketLoadTest {
+
+    private static final String CHAT_MARK = "LT|"; // 부하 테스트가 보낸 채팅 표시 (LT|메시지번호)
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final List<LoadClient> clients = Collections.synchronizedList(new ArrayList<>());
+    // 메시지 번호 -> 보낸 정보 (수신 시 지연/유실 계산용)
+    private final Map<Long, SentMessage> inflight = new ConcurrentHashMap<>();
+    private final AtomicLong messageSeq = new AtomicLong();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+
+    private final AtomicInteger loginFailures = new AtomicInteger();
+    private final AtomicInteger connectFailures = new AtomicInteger();
+    private final AtomicInteger unexpectedCloses = new AtomicInteger();
+    private final AtomicInteger sendFailures = new AtomicInteger();
+    private final AtomicLong framesReceived = new AtomicLong();
+    private final AtomicLong lateFrames = new AtomicLong(); // 집계가 끝난 뒤 도착한 프레임
+    private volatile boolean measuring = false;
+
+    // 서버 상태 표본
+    private final List<Double> heapUsedMb = Collections.synchronizedList(new ArrayList<>());
+    private final List<Double> processCpuPercent = Collections.synchronizedList(new ArrayList<>());
+    private final List<Double> systemCpuPercent = Collections.synchronizedList(new ArrayList<>());
+    private final List<Double> systemMemoryPercent = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean actuatorAvailable = true;
+
+    public WebSocketLoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        boolean passed = new WebSocketLoadTest(options).run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * 전체 실행. 기준을 통과하면 true
+     */
+    public boolean run() throws Exception {
+        System.out.printf("[load] %s 대상, 접속 %d개, %d초 동안 초당 %.1f건 (CHAT %.0f%%)%n",
+                options.wsUrl(), options.users(), options.durationSeconds(), options.rate(), options.chatRatio() * 100);
+
+        connectAll();
+        int connected = openClientCount();
+        System.out.printf("[load] 접속 완료: %d/%d (로그인 실패 %d, 연결 실패 %d)%n",
+                connected, options.users(), loginFailures.get(), connectFailures.get());
+        if (connected == 0) {
+            System.out.println("[load] 열린 접속이 없어 종료합니다.");
+            return false;
+        }
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        try {
+            measuring = true;
+            long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.001, options.rate()));
+            ScheduledFuture<?> sender = scheduler.scheduleAtFixedRate(this::sendOne, 0, periodNanos, TimeUnit.NANOSECONDS);
+            ScheduledFuture<?> sampler = scheduler.scheduleAtFixedRate(this::sampleServer, 0, 1, TimeUnit.SECONDS);
+
+            TimeUnit.SECONDS.sleep(options.durationSeconds());
+            sender.cancel(false);
+            TimeUnit.SECONDS.sleep(options.drainSeconds()); // 늦게 오는 방송까지 기다림
+            sampler.cancel(false);
+            measuring = false;
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        boolean passed = report();
+        closeAll();
+        return passed;
+    }
+
+    // === 1. 로그인 + 접속 (rampSeconds 동안 나눠서) ===
+    private void connectAll() throws InterruptedException {
+        long delayMs = options.users() <= 1 ? 0 : options.rampSeconds() * 1000L / options.users();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                int index = i;
+                executor.submit(() -> connectOne(index));
+                if (delayMs > 0) {
+                    TimeUnit.MILLISECONDS.sleep(delayMs);
+                }
+            }
+        } // close()가 모든 작업이 끝날 때까지 기다림
+    }
+
+    private void connectOne(int index) {
+        String[] account = options.accounts().get(index % options.accounts().size());
+        // 접속마다 deviceId를 달리해야 서버가 세션을 재사용하지 않고 새로 만듦
+        String deviceId = "loadtest-" + runId + "-" + index;
+        String accessToken;
+        try {
+            accessToken = login(account[0], account[1], deviceId);
+        } catch (Exception e) {
+            loginFailures.incrementAndGet();
+            System.out.printf("[load] 로그인 실패 #%d (%s): %s%n", index, account[0], e.getMessage());
+            return;
+        }
+        if (accessToken == null) {
+            loginFailures.incrementAndGet();
+            return;
+        }
+
+        LoadClient client = new LoadClient(index, account[0], "accessToken=" + accessToken + "; deviceId=" + deviceId);
+        try {
+            client.webSocket = httpClient.newWebSocketBuilder()
+                    .header("Cookie", client.cookie)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .buildAsync(URI.create(options.wsUrl()), client)
+                    .get(15, TimeUnit.SECONDS);
+            client.open = true;
+            clients.add(client);
+        } catch (Exception e) {
+            connectFailures.incrementAndGet();
+            System.out.printf("[load] 웹소켓 연결 실패 #%d: %s%n", index, e.getMessage());
+        }
+    }
+
+    // 로그인 후 Set-Cookie의 accessToken 값 반환
+    private String login(String userId, String password, String deviceId) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("id", userId, "password", password, "isRememberMe", false));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/user/login"))
+                .timeout(Duration.ofSeconds(15))
+                .header("Content-Type", "application/json")
+                .header("Cookie", "deviceId=" + deviceId)
+                .header("User-Agent", "ws-load-test")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " " + response.body());
+        }
+        for (String setCookie : response.headers().allValues("set-cookie")) {
+            if (setCookie.startsWith("accessToken=")) {
+                int end = setCookie.indexOf(';');
+                return setCookie.substring("accessToken=".length(), end < 0 ? setCookie.length() : end);
+            }
+        }
+        return null;
+    }
+
+    // === 2. 메시지 전송 ===
+    private void sendOne() {
+        List<LoadClient> open = openClients();
+        if (open.isEmpty()) {
+            return;
+        }
+        LoadClient from = open.get(ThreadLocalRandom.current().nextInt(open.size()));
+        long id = messageSeq.incrementAndGet();
+        boolean chat = ThreadLocalRandom.current().nextDouble() < options.chatRatio();
+
+        Map<String, Object> message = new HashMap<>();
+        if (chat) {
+            message.put("type", "CHAT");
+            message.put("sender", from.userId);
+            message.put("text", CHAT_MARK + id);
+        } else {
+            message.put("type", "MEMO");
+            message.put("sender", from.userId);
+            message.put("loadTestId", id);
+            message.put("content", "load test memo " + id);
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(message);
+        } catch (Exception e) {
+            sendFailures.incrementAndGet();
+            return;
+        }
+        // 서버는 보낸 사람을 포함한 모든 접속에 방송하므로, 지금 열려 있는 접속 수만큼 받아야 정상
+        inflight.put(id, new SentMessage(System.nanoTime(), open.size()));
+        from.send(json);
+    }
+
+    // === 3. 서버 상태 표본 (Actuator, 노출되지 않았으면 한 번 실패 후 건너뜀) ===
+    private void sampleServer() {
+        if (!actuatorAvailable || clients.isEmpty()) {
+            return;
+        }
+        Double heap = readMetric("jvm.memory.used?tag=area:heap");
+        Double cpu = readMetric("process.cpu.usage");
+        if (heap == null && cpu == null) {
+            actuatorAvailable = false;
+            System.out.println("[load] Actuator metrics를 읽을 수 없어 SYSTEM_STATUS 값만 기록합니다.");
+            return;
+        }
+        if (heap != null) {
+            heapUsedMb.add(heap / (1024 * 1024));
+        }
+        if (cpu != null) {
+            processCpuPercent.add(cpu * 100);
+        }
+    }
+
+    // 관리 포트의 메트릭 조회는 토큰 없이 허용됨 (SecurityConfig)
+    private Double readMetric(String name) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(options.managementUrl() + "/actuator/metrics/" + name))
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            Map<String, Object> body = objectMapper.readValue(response.body(), new TypeReference<Map<String, Object>>() {});
+            List<?> measurements = (List<?>) body.get("measurements");
+            if (measurements == null || measurements.isEmpty()) {
+                return null;
+            }
+            return ((Number) ((Map<?, ?>) measurements.get(0)).get("value")).doubleValue();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // === 4. 결과 ===
+    private boolean report() {
+        long sent = messageSeq.get();
+        long expected = 0;
+        long delivered = 0;
+        for (SentMessage message : inflight.values()) {
+            expected += message.expected;
+            delivered += message.received.get();
+        }
+        long dropped = Math.max(0, expected - delivered);
+        double dropRate = expected == 0 ? 0 : (double) dropped / expected;
+        long[] sorted = latencies.sortedSnapshot();
+
+        System.out.println();
+        System.out.println("========== /ws 부하 테스트 결과 ==========");
+        System.out.printf("접속           : %d/%d (로그인 실패 %d, 연결 실패 %d, 도중 끊김 %d)%n",
+                openClientCount(), options.users(), loginFailures.get(), connectFailures.get(), unexpectedCloses.get());
+        System.out.printf("전송           : %d건 (%.1f건/s, 전송 실패 %d)%n",
+                sent, sent / (double) Math.max(1, options.durationSeconds()), sendFailures.get());
+        System.out.printf("방송 수신      : %d/%d 프레임 (유실 %d, %.4f%%), 전체 수신 프레임 %d, 늦은 프레임 %d%n",
+                delivered, expected, dropped, dropRate * 100, framesReceived.get(), lateFrames.get());
+        System.out.printf("방송 지연 (ms) : p50 %.2f / p90 %.2f / p99 %.2f / p99.9 %.2f / max %.2f%n",
+                LatencyRecorder.percentileMs(sorted, 50), LatencyRecorder.percentileMs(sorted, 90),
+                LatencyRecorder.percentileMs(sorted, 99), LatencyRecorder.percentileMs(sorted, 99.9),
+                LatencyRecorder.percentileMs(sorted, 100));
+        printSamples("서버 JVM 힙 (MB)", heapUsedMb);
+        printSamples("서버 프로세스 CPU (%)", processCpuPercent);
+        printSamples("시스템 CPU (%)", systemCpuPercent);
+        printSamples("시스템 메모리 (%)", systemMemoryPercent);
+
+        boolean passed = true;
+        double p99 = LatencyRecorder.percentileMs(sorted, 99);
+        if (options.maxP99Ms() > 0 && p99 > options.maxP99Ms()) {
+            System.out.printf("[실패] p99 %.2fms > 기준 %.2fms%n", p99, options.maxP99Ms());
+            passed = false;
+        }
+        if (options.maxDropRate() >= 0 && dropRate > options.maxDropRate()) {
+            System.out.printf("[실패] 유실률 %.4f > 기준 %.4f%n", dropRate, options.maxDropRate());
+            passed = false;
+        }
+        System.out.println(passed ? "결과: 통과" : "결과: 실패");
+        System.out.println("=========================================");
+        return passed;
+    }
+
+    private void printSamples(String label, List<Double> samples) {
+        List<Double> copy;
+        synchronized (samples) {
+            copy = new ArrayList<>(samples);
+        }
+        if (copy.isEmpty()) {
+            System.out.printf("%-14s : (표본 없음)%n", label);
+            return;
+        }
+        DoubleSummaryStatistics stats = copy.stream().mapToDouble(Double::doubleValue).summaryStatistics();
+        System.out.printf("%-14s : min %.1f / avg %.1f / max %.1f (%d회)%n",
+                label, stats.getMin(), stats.getAverage(), stats.getMax(), stats.getCount());
+    }
+
+    // 접속 종료 + 로그아웃 (테스트가 만든 세션을 남기지 않음)
+    private void closeAll() {
+        for (LoadClient client : openClients()) {
+            client.open = false;
+            try {
+                client.webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "load test done").get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                client.webSocket.abort();
+            }
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/user/logout"))
+                        .timeout(Duration.ofSeconds(5))
+                        .header("Cookie", client.cookie)
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (Exception e) {
+                // 정리 실패는 결과에 영향 없음 (남은 세션은 서버 정리 작업이 지움)
+            }
+        }
+    }
+
+    private List<LoadClient> openClients() {
+        List<LoadClient> open = new ArrayList<>();
+        synchronized (clients) {
+            for (LoadClient client : clients) {
+                if (client.open) {
+                    open.add(client);
+                }
+            }
+        }
+        return open;
+    }
+
+    private int openClientCount() {
+        return openClients().size();
+    }
+
+    // 수신 프레임 처리 (웹소켓 수신 스레드에서 호출)
+    private void onFrame(LoadClient client, String text) {
+        framesReceived.incrementAndGet();
+        // 부하 테스트 메시지/상태 메시지가 아니면 파싱하지 않음
+        boolean ours = text.contains(CHAT_MARK) || text.contains("\"loadTestId\"");
+        boolean status = client.index == 0 && text.contains("\"SYSTEM_STATUS\"");
+        if (!ours && !status) {
+            return;
+        }
+        long receivedAt = System.nanoTime();
+        Map<String, Object> message;
+        try {
+            message = objectMapper.readValue(text, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            return;
+        }
+        Object type = message.get("type");
+        if ("SYSTEM_STATUS".equals(type)) {
+            if (measuring) {
+                addNumber(systemCpuPercent, message.get("cpuPercent"));
+                addNumber(systemMemoryPercent, message.get("memoryPercent"));
+            }
+            return;
+        }
+
+        Long id = null;
+        if ("CHAT".equals(type) && message.get("text") instanceof String chatText && chatText.startsWith(CHAT_MARK)) {
+            id = Long.valueOf(chatText.substring(CHAT_MARK.length()));
+        } else if ("MEMO".equals(type) && message.get("loadTestId") instanceof Number number) {
+            id = number.longValue();
+        }
+        if (id == null) {
+            return;
+        }
+        SentMessage sent = inflight.get(id);
+        if (sent == null) {
+            return;
+        }
+        if (!measuring) {
+            lateFrames.incrementAndGet();
+            return;
+        }
+        sent.received.incrementAndGet();
+        latencies.record(TimeUnit.NANOSECONDS.toMicros(receivedAt - sent.sentNanos));
+    }
+
+    private static void addNumber(List<Double> target, Object value) {
+        if (value instanceof Number number) {
+            target.add(number.doubleValue());
+        }
+    }
+
+    // 보낸 메시지 1건 (보낼 때 열려 있던 접속 수 = 받아야 할 프레임 수)
+    private static final class SentMessage {
+        final long sentNanos;
+        final int expected;
+        final AtomicInteger received = new AtomicInteger();
+
+        SentMessage(long sentNanos, int expected) {
+            this.sentNanos = sentNanos;
+            this.expected = expected;
+        }
+    }
+
+    /**
+     * 가상 사용자 1명의 웹소켓
+     */
+    private final class LoadClient implements WebSocket.Listener {
+        final int index;
+        final String userId;
+        final String cookie;
+        volatile WebSocket webSocket;
+        volatile boolean open = false;
+        private final StringBuilder partial = new StringBuilder();
+        // java.net.http.WebSocket은 이전 전송이 끝나기 전에 다시 보내면 예외이므로 순서대로 이어 붙임
+        private CompletableFuture<?> sendChain = CompletableFuture.completedFuture(null);
+
+        LoadClient(int index, String userId, String cookie) {
+            this.index = index;
+            this.userId = userId;
+            this.cookie = cookie;
+        }
+
+        synchronized void send(String json) {
+            sendChain = sendChain
+                    .thenCompose(ignored -> webSocket.sendText(json, true))
+                    .exceptionally(e -> {
+                        sendFailures.incrementAndGet();
+                        return null;
+                    });
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                String text = partial.toString();
+                partial.setLength(0);
+                onFrame(this, text);
+            }
+            ws.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket ws, int statusCode, String reason) {
+            if (open) {
+                open = false;
+                unexpectedCloses.incrementAndGet();
+                System.out.printf("[load] 접속 #%d 종료됨: %d %s%n", index, statusCode, reason);
+            }
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket ws, Throwable error) {
+            if (open) {
+                open = false;
+                unexpectedCloses.incrementAndGet();
+                System.out.printf("[load] 접속 #%d 오류: %s%n", index, error.getMessage());
+            }
+        }
+    }
+}
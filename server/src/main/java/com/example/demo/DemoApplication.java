@@ -7,12 +7,14 @@ import java.util.TimeZone;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import jakarta.annotation.PostConstruct;
 
 @SpringBootApplication
 @EnableScheduling // [필수] 이 줄을 꼭 추가해야 1초마다 돌아갑니다!
+@EnableAsync // @Async 이벤트 리스너 (SchedulingConfig.ASYNC = applicationTaskExecutor, 가상 스레드 모드에서는 가상 스레드)
 public class DemoApplication {
     public static void main(String[] args) {
         SpringApplication.run(DemoApplication.class, args);
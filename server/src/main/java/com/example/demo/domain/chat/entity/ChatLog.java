@@ -0,0 +1,12 @@
+package com.example.demo.domain.chat.entity;
+
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+public class ChatLog {
+    private Long id;
+    private String senderId;
+    private String message;
+    private LocalDateTime createdAt;
+}
@@ -2,21 +2,28 @@ package com.example.demo.domain.chat.mapper;
 
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
 import com.example.demo.domain.chat.dto.ChatHistoryRes;
+import com.example.demo.domain.chat.entity.ChatLog;
 
 import java.util.List;
 
 
 @Mapper
 public interface ChatMapper {
-    // 메시지 저장
-    @Insert("INSERT INTO chat_log (sender_id, message) VALUES (#{sender}, #{text})")
-    void saveMessage(@Param("sender") String sender, @Param("text") String text);
+    // 메시지 저장 (생성된 id는 chatLog.id에 채워짐, 검색 색인 키로 사용)
+    @Insert("INSERT INTO chat_log (sender_id, message) VALUES (#{senderId}, #{message})")
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    void saveMessage(ChatLog chatLog);
 
     // 최근 메시지 50개 가져오기
     @Select("SELECT sender_id as sender, message as text, FORMATDATETIME(created_at, 'yyyy-MM-dd''T''HH:mm:ss') as createdAt FROM chat_log ORDER BY created_at ASC LIMIT 50")
     List<ChatHistoryRes> getRecentMessages();
+
+    // 검색 색인 재구성용 (id 순 키셋 페이지)
+    @Select("SELECT id, sender_id, message, created_at FROM chat_log WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<ChatLog> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
 }
\ No newline at end of file
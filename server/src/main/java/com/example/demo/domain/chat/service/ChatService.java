@@ -9,7 +9,10 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.domain.chat.entity.ChatLog;
 import com.example.demo.domain.chat.mapper.ChatMapper;
+import com.example.demo.domain.search.service.SearchService;
+import com.example.demo.global.util.TransactionUtil;
 import com.example.demo.handler.WebSocketHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -18,12 +21,14 @@ public class ChatService {
 
     private final ChatMapper chatMapper;
     private final WebSocketHandler webSocketHandler; // 방송용
+    private final SearchService searchService;       // 검색 색인
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // 생성자 주입 시 @Lazy 적용
-    public ChatService(ChatMapper chatMapper, @Lazy WebSocketHandler webSocketHandler) {
+    public ChatService(ChatMapper chatMapper, @Lazy WebSocketHandler webSocketHandler, SearchService searchService) {
         this.chatMapper = chatMapper;
         this.webSocketHandler = webSocketHandler;
+        this.searchService = searchService;
     }
 
     /**
@@ -34,8 +39,13 @@ public class ChatService {
         String sender = (String) msgData.get("sender");
         String text = (String) msgData.get("text");
 
-        // 1. DB 저장
-        chatMapper.saveMessage(sender, text);
+        // 1. DB 저장 (커밋 후 검색 색인에 추가)
+        ChatLog chatLog = new ChatLog();
+        chatLog.setSenderId(sender);
+        chatLog.setMessage(text);
+        chatLog.setCreatedAt(LocalDateTime.now());
+        chatMapper.saveMessage(chatLog);
+        TransactionUtil.afterCommit(() -> searchService.indexChat(chatLog));
 
         // 2. 방송용 데이터 구성 (Service는 JSON이 아니라 객체/Map을 리턴해야 함)
         String nowTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("a h:mm"));
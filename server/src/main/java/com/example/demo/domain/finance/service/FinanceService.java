@@ -1,20 +1,30 @@
 package com.example.demo.domain.finance.service;
 
 import com.example.demo.domain.finance.dto.StockRes;
-import lombok.RequiredArgsConstructor;
+import com.example.demo.global.metrics.UpstreamMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
 import java.util.*;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FinanceService {
 
     // [수정] 404 에러를 유발하던 잘못된 전체 URL(CURRENT_URL) 삭제함.
+    // 통화 코드는 URI 템플릿 변수로 넘김
+    private static final String LATEST_URL = "https://api.frankfurter.app/latest?from={code}&to=KRW";
+
+    // [수정] RestTemplate을 매번 생성하지 않고 공용 설정(HttpClientConfig)이 적용된 RestClient 사용
+    private final RestClient restClient;
+    private final UpstreamMetrics upstreamMetrics; // 외부 API 지연 측정
+
+    public FinanceService(RestClient.Builder builder, UpstreamMetrics upstreamMetrics) {
+        this.restClient = builder.build();
+        this.upstreamMetrics = upstreamMetrics;
+    }
 
     public List<StockRes> getExchangeRates() {
         List<StockRes> result = new ArrayList<>();
@@ -29,12 +39,10 @@ public class FinanceService {
     }
 
     private StockRes fetchRate(String code, String name) {
-        RestTemplate restTemplate = new RestTemplate();
         // [핵심] 한 번에 하나의 통화만 기준(from)으로 잡아야 합니다.
-        String url = "https://api.frankfurter.app/latest?from=" + code + "&to=KRW";
-        
         try {
-            FrankfurterRes res = restTemplate.getForObject(url, FrankfurterRes.class);
+            FrankfurterRes res = upstreamMetrics.record(UpstreamMetrics.FRANKFURTER,
+                    () -> restClient.get().uri(LATEST_URL, code).retrieve().body(FrankfurterRes.class));
             
             if (res != null && res.rates != null && res.rates.containsKey("KRW")) {
                 double rate = res.rates.get("KRW");
@@ -10,10 +10,23 @@ public interface MemoMapper {
     @Select("SELECT * FROM memo WHERE user_id = #{userId} ORDER BY id DESC")
     List<Memo> findAll(@Param("userId") String userId);
 
-    // [수정] 작성자(user_id)도 같이 저장
+    // 저장 직후 캐시에 넣을 1건 조회 (created_at 등 DB 기본값 포함)
+    @Select("SELECT * FROM memo WHERE id = #{id}")
+    Memo findById(@Param("id") Long id);
+
+    // 삭제 전에 작성자 확인 (해당 사용자의 캐시만 고치기 위해)
+    @Select("SELECT user_id FROM memo WHERE id = #{id}")
+    String findUserIdById(@Param("id") Long id);
+
+    // [수정] 작성자(user_id)도 같이 저장, 생성된 id는 memo.id에 채워짐
     @Insert("INSERT INTO memo (user_id, content) VALUES (#{userId}, #{content})")
-    void save(@Param("userId") String userId, @Param("content") String content);
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    void save(Memo memo);
+
+    // 검색 색인 재구성용 (id 순 키셋 페이지)
+    @Select("SELECT * FROM memo WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<Memo> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
 
     @Delete("DELETE FROM memo WHERE id = #{id}")
     void deleteById(@Param("id") Long id);
-}
\ No newline at end of file
+}
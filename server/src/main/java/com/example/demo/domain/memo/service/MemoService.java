@@ -2,14 +2,21 @@ package com.example.demo.domain.memo.service;
 
 import com.example.demo.domain.memo.entity.Memo;
 import com.example.demo.domain.memo.mapper.MemoMapper;
+import com.example.demo.domain.search.service.SearchService;
+import com.example.demo.global.config.CacheConfig.CacheType;
+import com.example.demo.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // [추가 1] 로그 기능 임포트
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @Service
@@ -17,6 +24,8 @@ import java.util.List;
 public class MemoService {
 
     private final MemoMapper memoMapper;
+    private final CacheManager cacheManager;
+    private final SearchService searchService;
 
     /**
      * 특정 사용자의 메모 목록 조회
@@ -38,34 +47,76 @@ public class MemoService {
     /**
      * 메모 저장
      * <p>
-     * 데이터가 추가되면 기존에 캐싱된 목록은 낡은 데이터가 되므로 삭제(Evict)해야 합니다.
-     * key = "#userId"로 해당 사용자의 캐시만 콕 집어서 날려버립니다.
-     * 다음 조회 시 DB에서 최신 목록을 다시 가져오게 됩니다.
+     * 캐시를 비우지 않고, 커밋 후 해당 사용자의 캐시된 목록 맨 앞에 새 메모를 끼워 넣습니다 (write-through).
+     * 목록 정렬이 id DESC이므로 새 메모는 항상 맨 앞입니다.
+     * 캐시된 목록이 없으면 아무것도 하지 않습니다 (다음 조회 때 DB에서 가져옴).
      * </p>
      *
      * @param userId 사용자 ID
      * @param content 메모 내용
      */
     @Transactional
-    @CacheEvict(value = "memos", key = "#userId")
     public void addMemo(String userId, String content) {
-        memoMapper.save(userId, content);
+        Memo memo = new Memo();
+        memo.setUserId(userId);
+        memo.setContent(content);
+        memoMapper.save(memo);
+        Memo saved = memoMapper.findById(memo.getId());
+
+        TransactionUtil.afterCommit(() -> {
+            updateCachedMemos(userId, memos -> {
+                List<Memo> updated = new ArrayList<>(memos.size() + 1);
+                updated.add(saved);
+                updated.addAll(memos);
+                return updated;
+            });
+            searchService.indexMemo(saved);
+        });
     }
 
     /**
      * 메모 삭제
      * <p>
-     * 삭제 시에도 캐시 갱신이 필요합니다.
-     * 다만, 삭제 API에는 보통 memoId만 넘어오고 userId는 모르는 경우가 많습니다.
-     * userId를 모르면 특정 키를 지정해서 지울 수 없으므로,
-     * 안전하게 "memos" 캐시 전체를 비우는(allEntries = true) 방식을 사용합니다.
+     * 삭제 API에는 memoId만 넘어오므로, 삭제 전에 작성자를 조회해서 그 사용자의 캐시 목록에서만 빼냅니다.
+     * (이전에는 작성자를 몰라서 "memos" 캐시 전체를 비웠기 때문에 한 명의 삭제가 모든 사용자의 캐시를 날렸습니다.)
      * </p>
      *
      * @param id 삭제할 메모의 PK (ID)
      */
     @Transactional
-    @CacheEvict(value = "memos", allEntries = true)
     public void deleteMemo(Long id) {
+        String userId = memoMapper.findUserIdById(id);
+        if (userId == null) {
+            return; // 이미 삭제됨
+        }
         memoMapper.deleteById(id);
+
+        TransactionUtil.afterCommit(() -> {
+            updateCachedMemos(userId, memos -> {
+                List<Memo> updated = new ArrayList<>(memos);
+                updated.removeIf(memo -> id.equals(memo.getId()));
+                return updated;
+            });
+            searchService.removeMemo(id);
+        });
+    }
+
+    /**
+     * 캐시된 목록이 있을 때만 새 목록으로 교체
+     * 조회 중인 요청이 같은 리스트를 읽고 있을 수 있으므로 기존 리스트는 고치지 않고 복사본을 만듭니다.
+     * 같은 사용자의 동시 저장/삭제가 서로 덮어쓰지 않도록 Caffeine 맵의 computeIfPresent로 원자적으로 교체합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void updateCachedMemos(String userId, UnaryOperator<List<Memo>> update) {
+        Cache cache = cacheManager.getCache(CacheType.MEMOS.getCacheName());
+        if (cache == null) {
+            return;
+        }
+        if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap()
+                    .computeIfPresent(userId, (key, memos) -> update.apply((List<Memo>) memos));
+        } else {
+            cache.evict(userId); // Caffeine이 아닌 캐시로 바뀌면 해당 사용자만 비움
+        }
     }
-}
\ No newline at end of file
+}
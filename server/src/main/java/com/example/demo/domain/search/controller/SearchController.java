@@ -0,0 +1,34 @@
+package com.example.demo.domain.search.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.domain.search.dto.SearchReq;
+import com.example.demo.domain.search.dto.SearchRes;
+import com.example.demo.domain.search.service.SearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // 내 메모/할 일 + 채팅 기록 통합 검색 (점수순 페이지)
+    @Operation(summary = "통합 검색 (q, type, page, size)")
+    @GetMapping
+    public ResponseEntity<SearchRes> search(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @ModelAttribute SearchReq req) {
+        if (userDetails == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok(searchService.search(userDetails.getUsername(), req));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.domain.search.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 결과 1건
+ * - title: 할 일 제목 (메모/채팅은 null)
+ * - snippet: 본문 중 검색어 주변 일부
+ * - userId: 작성자 (채팅은 보낸 사람)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+    private SearchType type;
+    private Long id;
+    private String userId;
+    private String title;
+    private String snippet;
+    private double score;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 통합 검색 조건 (/api/search)
+ * - q: 검색어 (공백으로 나눈 모든 단어를 포함하는 항목만)
+ * - type: 선택 필터 (MEMO, TODO, CHAT)
+ * - page/size: 점수순 페이지 (0부터)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchReq {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+    public static final int MAX_RESULTS = 1000; // page * size 상한 (깊은 페이지는 상위 N개 유지 비용이 커짐)
+
+    private String q;
+    private SearchType type;
+    private Integer page;
+    private Integer size;
+}
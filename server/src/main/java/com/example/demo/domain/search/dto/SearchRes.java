@@ -0,0 +1,20 @@
+package com.example.demo.domain.search.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 결과 페이지
+ * - total: 조건에 맞는 전체 건수 (MAX_RESULTS를 넘는 페이지는 비어 있음)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchRes {
+    private String query;
+    private long total;
+    private int page;
+    private int size;
+    private List<SearchHit> hits;
+}
@@ -0,0 +1,12 @@
+package com.example.demo.domain.search.dto;
+
+/**
+ * 검색 대상 종류
+ * - MEMO, TODO: 작성자 본인만 검색 가능
+ * - CHAT: 전체 채팅방 기록이므로 모든 사용자가 검색 가능
+ */
+public enum SearchType {
+    MEMO,
+    TODO,
+    CHAT
+}
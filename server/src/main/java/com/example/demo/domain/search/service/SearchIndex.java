@@ -0,0 +1,274 @@
+package com.example.demo.domain.search.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.demo.domain.search.dto.SearchHit;
+import com.example.demo.domain.search.dto.SearchType;
+
+/**
+ * 메모리 역색인 (단어 -> 문서별 출현 횟수)
+ * <p>
+ * 검색은 질의 단어 중 문서 수가 가장 적은 단어의 목록만 훑고 나머지 단어는 해시 조회로 확인하므로,
+ * 전체 문서 수가 아니라 "가장 드문 단어가 나오는 문서 수"에 비례합니다 (LIKE '%x%'처럼 전체를 읽지 않음).
+ * 점수는 BM25 (단어 빈도 + 드문 단어 가중치 + 문서 길이 보정)입니다.
+ * 읽기(검색)는 동시에, 쓰기(색인 변경)는 하나씩 처리합니다.
+ * </p>
+ */
+final class SearchIndex {
+
+    // BM25 기본값
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int PREVIEW_LENGTH = 500; // 스니펫용으로 보관하는 본문 앞부분 길이
+    private static final int SNIPPET_LENGTH = 120;
+    private static final int SNIPPET_LEAD = 30;    // 검색어 앞에 보여줄 글자 수
+
+    private static final Comparator<Match> RANK = Comparator
+            .comparingDouble(Match::score)
+            .thenComparing(match -> match.doc().createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingLong(match -> match.doc().id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 단어 -> (문서 번호 -> 출현 횟수). 정렬 맵이라 한 글자 검색어를 접두어 범위로 찾을 수 있음
+    private final TreeMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    private final Map<Integer, Doc> docs = new HashMap<>();
+    private final Map<String, Integer> docNumbers = new HashMap<>(); // "MEMO:12" -> 문서 번호
+    private int nextDocNumber;
+    private long totalLength; // 평균 문서 길이 계산용 (단어 수 합)
+
+    /**
+     * 문서 추가 또는 교체 (같은 type + id가 있으면 먼저 뺌)
+     * @param ownerId 검색 가능한 사용자 (null이면 모두)
+     */
+    void put(SearchType type, Long id, String ownerId, String authorId, String title, String body,
+            LocalDateTime createdAt) {
+        List<String> tokens = new ArrayList<>(SearchTokenizer.tokenize(title));
+        tokens.addAll(SearchTokenizer.tokenize(body));
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key(type, id));
+            if (frequencies.isEmpty()) {
+                return; // 검색될 단어가 없는 문서
+            }
+            Doc doc = new Doc(type, id, ownerId, authorId, title, preview(body), createdAt, tokens.size(),
+                    frequencies.keySet().toArray(new String[0]));
+            int docNumber = nextDocNumber++;
+            docs.put(docNumber, doc);
+            docNumbers.put(key(type, id), docNumber);
+            totalLength += doc.length;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(docNumber, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(SearchType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어 조각을 포함하는 문서를 점수순으로 offset부터 limit개
+     * @param userId 검색하는 사용자 (다른 사람의 메모/할 일은 제외)
+     * @param type 종류 필터 (null이면 전체)
+     */
+    Result search(String query, String userId, SearchType type, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return Result.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Integer, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Integer, Integer> posting = lookup(term);
+                if (posting.isEmpty()) {
+                    return Result.EMPTY; // 한 단어라도 없으면 결과 없음
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size)); // 가장 드문 단어부터
+
+            int docCount = docs.size();
+            double averageLength = (double) totalLength / docCount;
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = termPostings.get(i).size();
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            int keep = offset + limit;
+            PriorityQueue<Match> top = new PriorityQueue<>(Math.max(1, keep), RANK); // 점수 낮은 것이 맨 앞
+            long total = 0;
+            candidates:
+            for (Map.Entry<Integer, Integer> candidate : termPostings.get(0).entrySet()) {
+                Doc doc = docs.get(candidate.getKey());
+                if ((type != null && doc.type != type) || (doc.ownerId != null && !doc.ownerId.equals(userId))) {
+                    continue;
+                }
+                double lengthNorm = K1 * (1 - B + B * doc.length / averageLength);
+                double score = 0;
+                for (int i = 0; i < idf.length; i++) {
+                    Integer tf = (i == 0) ? candidate.getValue() : termPostings.get(i).get(candidate.getKey());
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+                total++;
+                if (keep > 0) {
+                    Match match = new Match(doc, score);
+                    if (top.size() < keep) {
+                        top.add(match);
+                    } else if (RANK.compare(match, top.peek()) > 0) {
+                        top.poll();
+                        top.add(match);
+                    }
+                }
+            }
+
+            List<Match> ranked = new ArrayList<>(top);
+            ranked.sort(RANK.reversed());
+            List<SearchHit> hits = new ArrayList<>();
+            for (int i = offset; i < ranked.size(); i++) {
+                Doc doc = ranked.get(i).doc();
+                hits.add(new SearchHit(doc.type, doc.id, doc.authorId, doc.title, snippet(doc.preview, query),
+                        ranked.get(i).score(), doc.createdAt));
+            }
+            return new Result(total, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 한 글자 한글은 그 글자로 시작하는 2글자 조각들을 합쳐서 찾음 (문서 번호별 횟수 합)
+    private Map<Integer, Integer> lookup(String term) {
+        if (!SearchTokenizer.isSingleCjk(term)) {
+            Map<Integer, Integer> posting = postings.get(term);
+            return posting != null ? posting : Collections.emptyMap();
+        }
+        SortedMap<String, Map<Integer, Integer>> range = postings.subMap(term, term + Character.MAX_VALUE);
+        if (range.size() == 1) {
+            return range.values().iterator().next();
+        }
+        Map<Integer, Integer> merged = new HashMap<>();
+        for (Map<Integer, Integer> posting : range.values()) {
+            posting.forEach((docNumber, tf) -> merged.merge(docNumber, tf, Integer::sum));
+        }
+        return merged;
+    }
+
+    private void removeLocked(String key) {
+        Integer docNumber = docNumbers.remove(key);
+        if (docNumber == null) {
+            return;
+        }
+        Doc doc = docs.remove(docNumber);
+        totalLength -= doc.length;
+        for (String term : doc.terms) {
+            Map<Integer, Integer> posting = postings.get(term);
+            posting.remove(docNumber);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static String key(SearchType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static String preview(String body) {
+        if (body == null) {
+            return null;
+        }
+        return body.length() > PREVIEW_LENGTH ? body.substring(0, PREVIEW_LENGTH) : body;
+    }
+
+    // 검색어 단어 중 처음 나오는 위치 주변을 잘라서 보여줌 (못 찾으면 앞부분)
+    static String snippet(String text, String query) {
+        if (text == null || text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int position = -1;
+        for (String word : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+            int found = word.isEmpty() ? -1 : lower.indexOf(word);
+            if (found >= 0 && (position < 0 || found < position)) {
+                position = found;
+            }
+        }
+        int start = Math.max(0, Math.min(position - SNIPPET_LEAD, text.length() - SNIPPET_LENGTH));
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        return (start > 0 ? "…" : "") + text.substring(start, end) + (end < text.length() ? "…" : "");
+    }
+
+    // 색인된 문서 1개 (본문은 스니펫용 앞부분만 보관)
+    private static final class Doc {
+        final SearchType type;
+        final Long id;
+        final String ownerId;
+        final String authorId;
+        final String title;
+        final String preview;
+        final LocalDateTime createdAt;
+        final int length;
+        final String[] terms; // 삭제 시 postings에서 뺄 단어 목록
+
+        Doc(SearchType type, Long id, String ownerId, String authorId, String title, String preview,
+                LocalDateTime createdAt, int length, String[] terms) {
+            this.type = type;
+            this.id = id;
+            this.ownerId = ownerId;
+            this.authorId = authorId;
+            this.title = title;
+            this.preview = preview;
+            this.createdAt = createdAt;
+            this.length = length;
+            this.terms = terms;
+        }
+    }
+
+    private record Match(Doc doc, double score) {
+    }
+
+    // 조건에 맞는 전체 건수 + 요청한 페이지
+    record Result(long total, List<SearchHit> hits) {
+        static final Result EMPTY = new Result(0, List.of());
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.demo.domain.search.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.domain.chat.entity.ChatLog;
+import com.example.demo.domain.chat.mapper.ChatMapper;
+import com.example.demo.domain.memo.entity.Memo;
+import com.example.demo.domain.memo.mapper.MemoMapper;
+import com.example.demo.domain.search.dto.SearchReq;
+import com.example.demo.domain.search.dto.SearchRes;
+import com.example.demo.domain.search.dto.SearchType;
+import com.example.demo.domain.todo.dto.TodoDTO;
+import com.example.demo.domain.todo.mapper.TodoMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 통합 검색 (메모, 할 일, 채팅)
+ * <p>
+ * 서버 기동 시 세 테이블을 id 순으로 나눠 읽어 메모리 역색인을 한 번 만들고,
+ * 이후에는 MemoService, TodoService, ChatService가 커밋 후에 변경분만 넘겨줍니다 (DB 재조회 없음).
+ * 색인을 만드는 도중 들어온 변경은 먼저 반영하고, 재구성 쪽에서 같은 항목을 덮어쓰지 않도록 건너뜁니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class SearchService {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final MemoMapper memoMapper;
+    private final TodoMapper todoMapper;
+    private final ChatMapper chatMapper;
+    private final SearchIndex index = new SearchIndex();
+
+    // 재구성 중 실시간 변경과의 순서 보장용 (변경은 어차피 색인의 쓰기 잠금에서 한 줄로 처리됨)
+    private final Object writeLock = new Object();
+    private final Set<String> touchedWhileBuilding = ConcurrentHashMap.newKeySet();
+    private volatile boolean building;
+
+    public SearchService(MemoMapper memoMapper, TodoMapper todoMapper, ChatMapper chatMapper) {
+        this.memoMapper = memoMapper;
+        this.todoMapper = todoMapper;
+        this.chatMapper = chatMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        building = true;
+        try {
+            rebuild(SearchType.MEMO, memoMapper::findPageAfter, Memo::getId, this::putMemo);
+            rebuild(SearchType.TODO, todoMapper::findPageAfter, TodoDTO::getId, this::putTodo);
+            rebuild(SearchType.CHAT, chatMapper::findPageAfter, ChatLog::getId, this::putChat);
+        } finally {
+            building = false;
+            touchedWhileBuilding.clear();
+        }
+        log.info("검색 색인 생성 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    private <T> void rebuild(SearchType type, PageLoader<T> loader, Function<T, Long> idOf, RowIndexer<T> indexer) {
+        long afterId = 0;
+        List<T> page;
+        do {
+            page = loader.load(afterId, REBUILD_PAGE_SIZE);
+            for (T row : page) {
+                Long id = idOf.apply(row);
+                synchronized (writeLock) {
+                    if (!touchedWhileBuilding.contains(key(type, id))) {
+                        indexer.put(row);
+                    }
+                }
+                afterId = id;
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+    }
+
+    public SearchRes search(String userId, SearchReq req) {
+        int size = (req.getSize() == null || req.getSize() <= 0)
+                ? SearchReq.DEFAULT_SIZE : Math.min(req.getSize(), SearchReq.MAX_SIZE);
+        int page = (req.getPage() == null || req.getPage() < 0) ? 0 : req.getPage();
+        String query = req.getQ() == null ? "" : req.getQ().trim();
+
+        // 깊은 페이지는 건수만 세고 결과는 비움 (상위 N개 유지 비용 제한)
+        long offset = (long) page * size;
+        int keep = offset + size > SearchReq.MAX_RESULTS ? 0 : size;
+        SearchIndex.Result result = index.search(query, userId, req.getType(),
+                keep == 0 ? 0 : (int) offset, keep);
+        return new SearchRes(query, result.total(), page, size, result.hits());
+    }
+
+    // ===== 실시간 반영 (각 서비스의 커밋 후 호출) =====
+
+    public void indexMemo(Memo memo) {
+        write(SearchType.MEMO, memo.getId(), () -> putMemo(memo));
+    }
+
+    public void removeMemo(Long id) {
+        write(SearchType.MEMO, id, () -> index.remove(SearchType.MEMO, id));
+    }
+
+    public void indexTodo(TodoDTO todo) {
+        write(SearchType.TODO, todo.getId(), () -> putTodo(todo));
+    }
+
+    public void removeTodo(Long id) {
+        write(SearchType.TODO, id, () -> index.remove(SearchType.TODO, id));
+    }
+
+    public void indexChat(ChatLog chatLog) {
+        write(SearchType.CHAT, chatLog.getId(), () -> putChat(chatLog));
+    }
+
+    private void write(SearchType type, Long id, Runnable action) {
+        if (id == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (building) {
+                touchedWhileBuilding.add(key(type, id));
+            }
+            action.run();
+        }
+    }
+
+    private void putMemo(Memo memo) {
+        index.put(SearchType.MEMO, memo.getId(), memo.getUserId(), memo.getUserId(), null, memo.getContent(),
+                memo.getCreatedAt());
+    }
+
+    private void putTodo(TodoDTO todo) {
+        index.put(SearchType.TODO, todo.getId(), todo.getUserId(), todo.getUserId(), todo.getTitle(),
+                todo.getDescription(), todo.getCreatedAt());
+    }
+
+    // 채팅은 전체 채팅방 기록이라 누구나 검색 가능 (ownerId = null)
+    private void putChat(ChatLog chatLog) {
+        LocalDateTime createdAt = chatLog.getCreatedAt() != null ? chatLog.getCreatedAt() : LocalDateTime.now();
+        index.put(SearchType.CHAT, chatLog.getId(), null, chatLog.getSenderId(), null, chatLog.getMessage(),
+                createdAt);
+    }
+
+    private static String key(SearchType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    @FunctionalInterface
+    private interface PageLoader<T> {
+        List<T> load(long afterId, int limit);
+    }
+
+    @FunctionalInterface
+    private interface RowIndexer<T> {
+        void put(T row);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.domain.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 토크나이저 (색인과 질의에 같은 규칙 사용)
+ * <p>
+ * 형태소 분석기 없이 글자 종류로만 나눕니다.
+ * </p>
+ * <ul>
+ *   <li>영문/숫자: 연속 구간을 소문자 단어 1개로 (한 글자 영문은 버림, 숫자는 유지)</li>
+ *   <li>한글/한자/가나: 연속 구간을 2글자씩 겹쳐 자름 (bigram). "회의록을" -> 회의, 의록, 록을.
+ *       조사가 붙어도 앞쪽 bigram이 그대로 남아 "회의록"으로 찾을 수 있음. 한 글자 구간은 그대로 1개.</li>
+ *   <li>그 외 문자(공백, 문장 부호, 이모지 등)는 구분자</li>
+ * </ul>
+ * 전각 문자 등은 NFKC로 정규화한 뒤 자릅니다.
+ */
+final class SearchTokenizer {
+
+    private static final int OTHER = 0;
+    private static final int WORD = 1; // 영문/숫자 등 띄어쓰기로 구분되는 문자
+    private static final int CJK = 2;  // 띄어쓰기 없이 이어지는 한글/한자/가나
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int runStart = 0;
+        int runKind = OTHER;
+        int i = 0;
+        while (i <= normalized.length()) {
+            int kind = OTHER;
+            int codePoint = 0;
+            if (i < normalized.length()) {
+                codePoint = normalized.codePointAt(i);
+                kind = kindOf(codePoint);
+            }
+            if (kind != runKind) {
+                emit(normalized, runStart, i, runKind, tokens);
+                runStart = i;
+                runKind = kind;
+            }
+            i += (i < normalized.length()) ? Character.charCount(codePoint) : 1;
+        }
+        return tokens;
+    }
+
+    private static void emit(String text, int start, int end, int kind, List<String> tokens) {
+        if (kind == WORD) {
+            String word = text.substring(start, end);
+            if (word.length() > 1 || Character.isDigit(word.charAt(0))) {
+                tokens.add(word);
+            }
+        } else if (kind == CJK) {
+            int[] codePoints = text.substring(start, end).codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(new String(codePoints, 0, 1));
+                return;
+            }
+            for (int j = 0; j + 1 < codePoints.length; j++) {
+                tokens.add(new String(codePoints, j, 2));
+            }
+        }
+    }
+
+    private static int kindOf(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        if (script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA) {
+            return Character.isLetter(codePoint) ? CJK : OTHER;
+        }
+        return Character.isLetterOrDigit(codePoint) ? WORD : OTHER;
+    }
+
+    // 한 글자 한글 등 (색인에는 2글자 조각으로만 들어가므로 접두어로 찾음)
+    static boolean isSingleCjk(String token) {
+        return token.codePointCount(0, token.length()) == 1 && kindOf(token.codePointAt(0)) == CJK;
+    }
+}
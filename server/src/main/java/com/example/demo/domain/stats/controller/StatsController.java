@@ -1,5 +1,6 @@
 package com.example.demo.domain.stats.controller;
 
+import com.example.demo.domain.stats.dto.CodeStatsDetailRes;
 import com.example.demo.domain.stats.service.CodeStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,4 +20,10 @@ public class StatsController {
     public Map<String, Long> getCodeStats() {
         return codeStatsService.getCodeStatistics();
     }
+
+    // 언어/모듈/패키지별 코드·주석·빈 줄 상세
+    @GetMapping("/code/detail")
+    public CodeStatsDetailRes getCodeStatsDetail() {
+        return codeStatsService.getCodeDetail();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.demo.domain.stats.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 줄 수 집계 1건 (언어/모듈/패키지 공통)
+ * - lines = code + comment + blank
+ */
+@Getter
+@NoArgsConstructor
+public class CodeLineStat {
+    private long files;    // 파일 수
+    private long lines;    // 전체 줄 수
+    private long code;     // 코드 줄 수 (SLOC)
+    private long comment;  // 주석만 있는 줄 수
+    private long blank;    // 빈 줄 수
+
+    // 파일 1개 결과 누적
+    public void add(long lines, long code, long comment, long blank) {
+        this.files++;
+        this.lines += lines;
+        this.code += code;
+        this.comment += comment;
+        this.blank += blank;
+    }
+}
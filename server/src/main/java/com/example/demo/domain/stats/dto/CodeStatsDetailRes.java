@@ -0,0 +1,20 @@
+package com.example.demo.domain.stats.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 코드 통계 상세 (/api/stats/code/detail)
+ * - languages: 언어 버킷별 (Java, TypeScript/React, CSS/Style, Config/Etc)
+ * - modules: 최상위 모듈별 (server, client, client/src/components ...)
+ * - packages: Java 패키지 또는 폴더별 (com.example.demo.domain.user, client/src/hooks ...)
+ */
+@Getter
+@AllArgsConstructor
+public class CodeStatsDetailRes {
+    private Map<String, CodeLineStat> languages;
+    private Map<String, CodeLineStat> modules;
+    private Map<String, CodeLineStat> packages;
+}
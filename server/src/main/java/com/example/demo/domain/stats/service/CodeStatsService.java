@@ -1,84 +1,586 @@
 package com.example.demo.domain.stats.service;
 
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import com.example.demo.domain.stats.dto.CodeLineStat;
+import com.example.demo.domain.stats.dto.CodeStatsDetailRes;
+import com.example.demo.domain.stats.service.SourceLineCounter.LineCounts;
+import com.example.demo.global.config.CodeStatsProperties;
+import com.example.demo.handler.WebSocketHandler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 코드 통계 (언어별 줄 수)
+ * <p>
+ * 서버 기동 후 client/server 폴더를 한 번 스캔하고, 이후에는 WatchService로 변경된 파일만 다시 세어
+ * 언어별 합계를 계속 유지합니다. 따라서 /api/stats/code는 파일 시스템을 건드리지 않고 합계만 복사해서 반환합니다.
+ * 감시를 끄거나 초기 스캔이 끝나기 전에는 요청 시점에 증분 스캔으로 대신합니다.
+ * </p>
+ * <p>
+ * 파일별 결과는 data 폴더에 바이너리 스냅샷으로 저장해 두었다가 재시작 시 먼저 불러옵니다.
+ * 그래서 첫 요청은 저장된 합계로 바로 응답하고, 기동 스캔은 수정 시간/크기가 바뀐 파일만 다시 읽습니다.
+ * </p>
+ * <p>
+ * 파일을 읽을 때 SourceLineCounter로 코드/주석/빈 줄을 함께 분류해 두므로,
+ * 모듈/패키지별 상세(/api/stats/code/detail)는 추가 I/O 없이 파일별 결과만 다시 묶어서 만듭니다.
+ * </p>
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CodeStatsService {
-    
+
+    // 제외할 폴더들 (이거 안 빼면 node_modules 때문에 수십만 줄 나옴)
+    // 폴더 이름이 정확히 일치할 때만 하위 탐색 자체를 건너뜀
+    private static final Set<String> EXCLUDED_DIRS = Set.of(
+            "node_modules", ".git", "build", "dist", "bin", ".gradle", ".idea", ".vscode", "out");
+    private static final List<String> BUCKETS = List.of("Java", "TypeScript/React", "CSS/Style", "Config/Etc");
+
+    // 스냅샷 파일 형식: MAGIC, VERSION, 파일 수, [상대경로, 수정시간, 크기, 줄 수, 코드, 주석, 빈 줄, 언어] * N
+    private static final int SNAPSHOT_MAGIC = 0x43535331; // "CSS1"
+    private static final int SNAPSHOT_VERSION = 2;        // 2: 코드/주석/빈 줄 추가
+
+    private final CodeStatsProperties codeStatsProperties;
+    private final WebSocketHandler webSocketHandler; // CODE_STATS 방송용
+
+    // 파일별 줄 수 캐시 (수정 시간 + 크기가 같으면 다시 읽지 않음)
+    private final Map<Path, FileStat> fileStats = new ConcurrentHashMap<>();
+    // 언어별 합계 (fileStats가 바뀔 때마다 차이만큼 갱신)
+    private final Map<String, Long> totals = new HashMap<>();
+    private final Object totalsLock = new Object();
+    // 줄 수 계산 전용 풀 (요청 스레드/공용 풀과 분리)
+    private final ForkJoinPool countPool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    // [파일 감시] WatchKey -> 감시 중인 폴더
+    private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+    private WatchService watchService;
+    private Thread watchThread;
+    private volatile boolean live = false; // 초기 스캔 + 감시 등록 완료 여부
+    private volatile boolean snapshotLoaded = false; // 이전 실행의 스냅샷을 불러왔는지 여부
+    // 감시 스레드가 살아 있는지 (시작 시 true, watchLoop가 어떤 이유로든 끝나면 false)
+    private volatile boolean watcherRunning = false;
+
+    public CodeStatsService(CodeStatsProperties codeStatsProperties, @Lazy WebSocketHandler webSocketHandler) {
+        this.codeStatsProperties = codeStatsProperties;
+        this.webSocketHandler = webSocketHandler;
+        for (String bucket : BUCKETS) {
+            totals.put(bucket, 0L);
+        }
+        loadSnapshot();
+    }
+
     public Map<String, Long> getCodeStatistics() {
-        Map<String, Long> stats = new HashMap<>();
-        // 초기값 0 설정
-        stats.put("Java", 0L);
-        stats.put("TypeScript/React", 0L);
-        stats.put("CSS/Style", 0L);
-        stats.put("Config/Etc", 0L);
+        scanIfNotWatched();
+        return snapshot();
+    }
+
+    /**
+     * 언어/모듈/패키지별 코드·주석·빈 줄 상세
+     * 파일별 결과를 다시 묶기만 하므로 파일 시스템은 읽지 않음 (준비 전이면 getCodeStatistics와 같은 조건으로 스캔)
+     */
+    public CodeStatsDetailRes getCodeDetail() {
+        scanIfNotWatched();
+        Path projectRoot = resolveProjectRoot();
+        Map<String, CodeLineStat> languages = new LinkedHashMap<>();
+        for (String bucket : BUCKETS) {
+            languages.put(bucket, new CodeLineStat());
+        }
+        Map<String, CodeLineStat> modules = new TreeMap<>();
+        Map<String, CodeLineStat> packages = new TreeMap<>();
+        for (Map.Entry<Path, FileStat> entry : fileStats.entrySet()) {
+            FileStat stat = entry.getValue();
+            Path relative = projectRoot.relativize(entry.getKey());
+            stat.addTo(languages.computeIfAbsent(stat.bucket(), k -> new CodeLineStat()));
+            stat.addTo(modules.computeIfAbsent(moduleOf(relative), k -> new CodeLineStat()));
+            stat.addTo(packages.computeIfAbsent(packageOf(relative), k -> new CodeLineStat()));
+        }
+        return new CodeStatsDetailRes(languages, modules, packages);
+    }
 
+    /**
+     * 감시가 꺼져 있거나 아직 준비 중이면 요청 시점에 증분 스캔
+     * 단, 감시 준비 중이고 스냅샷이 있으면 저장된 합계로 즉시 응답 (기동 스캔이 끝나면 자동 보정)
+     * 감시 스레드가 죽었으면 (inotify 한도, I/O 오류 등) 스냅샷은 더 이상 보정되지 않으므로 다시 스캔
+     */
+    private void scanIfNotWatched() {
+        boolean servedBySnapshot = snapshotLoaded && watcherRunning;
+        if (!live && !servedBySnapshot) {
+            scan(resolveScanRoots(), true);
+        }
+    }
+
+    // 서버 기동이 끝나면 백그라운드에서 감시 시작 (요청 스레드를 막지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWatching() {
+        if (!codeStatsProperties.isWatchEnabled()) {
+            return;
+        }
+        watcherRunning = true;
+        watchThread = new Thread(this::watchLoop, "code-stats-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (live) {
+            saveSnapshot();
+        }
+        live = false;
+        if (watchService != null) {
+            try {
+                watchService.close(); // take()에서 대기 중인 감시 스레드를 깨워 종료시킴
+            } catch (IOException e) {
+                log.debug("WatchService 종료 실패: {}", e.getMessage());
+            }
+        }
+        countPool.shutdown();
+    }
+
+    private void watchLoop() {
+        List<Path> roots = resolveScanRoots();
         try {
-            // 현재 실행 위치(프로젝트 루트 또는 server 폴더)를 기준으로 탐색
-            Path startPath = Paths.get(System.getProperty("user.dir"));
-            
-            // 상위 폴더로 한 번 올라가서 'client'와 'server'를 모두 포함하도록 시도 (통합 통계)
-            // 만약 현재가 'server' 폴더 안이라면 상위로 이동
-            if (startPath.endsWith("server")) {
-                startPath = startPath.getParent();
-            }
-
-            try (Stream<Path> stream = Files.walk(startPath)) {
-                stream.filter(p -> !Files.isDirectory(p)) // 파일만 대상
-                      .filter(this::isSourceCode)         // 소스코드만 대상 (빌드 파일 제외)
-                      .forEach(path -> {
-                          try {
-                              // 파일의 줄 수(Line Count) 계산
-                              long lines = Files.lines(path).count();
-                              String ext = getExtension(path.toString());
-                              
-                              if (ext.equals("java")) {
-                                  stats.merge("Java", lines, (line1, line2) -> line1 + line2);
-                              } else if (ext.equals("ts") || ext.equals("tsx")) {
-                                  stats.merge("TypeScript/React", lines, (line1, line2) -> line1 + line2);
-                              } else if (ext.equals("css") || ext.equals("scss")) {
-                                  stats.merge("CSS/Style", lines, (line1, line2) -> line1 + line2);
-                              } else {
-                                  stats.merge("Config/Etc", lines, (line1, line2) -> line1 + line2);
-                              }
-                          } catch (Exception e) {
-                              // 읽기 실패한 파일은 무시
-                          }
-                      });
+            watchService = FileSystems.getDefault().newWatchService();
+            // 감시를 먼저 등록해야 스캔 도중 바뀐 파일도 놓치지 않음
+            for (Path root : roots) {
+                registerTree(root);
+            }
+            scan(roots, true);
+            live = true;
+            saveSnapshot();
+            log.info("코드 통계 실시간 감시 시작: 폴더 {}개", watchedDirs.size());
+
+            boolean pendingPush = false;
+            while (true) {
+                // 변경이 있었으면 debounce 시간만큼 더 기다렸다가 한 번에 방송
+                WatchKey key = pendingPush
+                        ? watchService.poll(codeStatsProperties.getPushDebounceMs(), TimeUnit.MILLISECONDS)
+                        : watchService.take();
+                if (key == null) {
+                    pushStats();
+                    saveSnapshot();
+                    pendingPush = false;
+                    continue;
+                }
+                pendingPush |= handleEvents(key, roots);
             }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.info("코드 통계 감시 종료");
         } catch (IOException e) {
-            e.printStackTrace();
+            log.error("코드 통계 감시 시작 실패 (요청 시 스캔으로 대체): {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("코드 통계 감시 중단 (요청 시 스캔으로 대체)", e);
+        } finally {
+            watcherRunning = false;
+            live = false;
         }
+    }
 
-        return stats;
+    // 폴더 1개에서 발생한 이벤트 처리. 통계가 바뀌었으면 true
+    private boolean handleEvents(WatchKey key, List<Path> roots) {
+        Path dir = watchedDirs.get(key);
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // 이벤트 유실 -> 전체 재검증 (변경된 파일만 다시 읽음)
+                scan(roots, true);
+                changed = true;
+                continue;
+            }
+            if (dir == null) {
+                continue;
+            }
+            Path child = dir.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                // 새 폴더: 감시 등록 후 안에 이미 생긴 파일까지 반영
+                if (!isExcludedDir(child)) {
+                    registerTree(child);
+                    scan(List.of(child), false);
+                    changed = true;
+                }
+            } else if (event.kind() == ENTRY_DELETE) {
+                // 파일 또는 폴더 삭제: 해당 경로 아래 결과 모두 제거
+                for (Path path : List.copyOf(fileStats.keySet())) {
+                    if (path.startsWith(child)) {
+                        applyFileStat(path, null);
+                        changed = true;
+                    }
+                }
+            } else if (isSourceCode(child)) {
+                changed |= recount(child);
+            }
+        }
+        if (!key.reset()) {
+            watchedDirs.remove(key); // 폴더가 사라짐
+        }
+        return changed;
     }
 
-    // 분석할 파일인지, 제외할 파일(node_modules 등)인지 판단
-    private boolean isSourceCode(Path path) {
-        String p = path.toString();
-        // 제외할 폴더들 (이거 안 빼면 node_modules 때문에 수십만 줄 나옴)
-        if (p.contains("node_modules") || p.contains(".git") || p.contains("build") || p.contains("dist") || p.contains("bin")
-            || p.contains(".gradle") || p.contains(".idea") || p.contains(".vscode") || p.contains("out")
-        ) {
+    private void registerTree(Path start) {
+        try {
+            Files.walkFileTree(start, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (!dir.equals(start) && isExcludedDir(dir)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    WatchKey key = dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                    watchedDirs.put(key, dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("감시 등록 실패: {} ({})", start, e.getMessage());
+        }
+    }
+
+    private void pushStats() {
+        if (!codeStatsProperties.isPushEnabled()) {
+            return;
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("type", "CODE_STATS"); // 타입 명시
+        data.put("stats", snapshot());
+        try {
+            webSocketHandler.broadcast(data);
+        } catch (Exception e) {
+            log.warn("CODE_STATS 방송 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 증분 스캔: 제외 폴더는 들어가지 않고, 수정 시간/크기가 바뀐 파일만 병렬로 다시 계산
+     * @param removeMissing true면 roots 아래에서 더 이상 보이지 않는 파일을 결과에서 제거
+     */
+    private synchronized void scan(List<Path> roots, boolean removeMissing) {
+        Map<Path, BasicFileAttributes> seen = new HashMap<>();
+        List<Path> changed = new ArrayList<>();
+        for (Path root : roots) {
+            try {
+                Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        if (!dir.equals(root) && isExcludedDir(dir)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (attrs.isRegularFile() && isSourceCode(file)) {
+                            seen.put(file, attrs);
+                            FileStat cached = fileStats.get(file);
+                            if (cached == null || !cached.matches(attrs)) {
+                                changed.add(file);
+                            }
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        return FileVisitResult.CONTINUE; // 읽기 실패한 파일은 무시
+                    }
+                });
+            } catch (IOException e) {
+                log.error("코드 통계 탐색 실패: {}", e.getMessage());
+            }
+        }
+
+        // 삭제된 파일은 결과에서 제거
+        if (removeMissing) {
+            for (Path path : List.copyOf(fileStats.keySet())) {
+                if (!seen.containsKey(path) && roots.stream().anyMatch(path::startsWith)) {
+                    applyFileStat(path, null);
+                }
+            }
+        }
+
+        // 변경된 파일만 병렬로 다시 계산
+        if (!changed.isEmpty()) {
+            countPool.submit(() -> changed.parallelStream().forEach(path -> {
+                try {
+                    applyFileStat(path, measure(path, seen.get(path)));
+                } catch (IOException e) {
+                    applyFileStat(path, null); // 읽기 실패한 파일은 무시
+                }
+            })).join();
+            log.debug("코드 통계 갱신: 전체 {}개 중 {}개 파일 재계산", seen.size(), changed.size());
+        }
+    }
+
+    // 파일 1개 다시 계산 (감시 이벤트용). 결과가 바뀌었으면 true
+    private boolean recount(Path path) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (!attrs.isRegularFile()) {
+                return false;
+            }
+            FileStat cached = fileStats.get(path);
+            if (cached != null && cached.matches(attrs)) {
+                return false;
+            }
+            applyFileStat(path, measure(path, attrs));
+            return true;
+        } catch (IOException e) {
+            // 저장 도중 잠깐 사라지는 경우 등 -> 삭제 이벤트에서 정리됨
             return false;
         }
+    }
+
+    // 파일 결과를 교체하고 언어별 합계에 차이만 반영 (stat이 null이면 제거)
+    private void applyFileStat(Path path, FileStat stat) {
+        synchronized (totalsLock) {
+            FileStat old = (stat == null) ? fileStats.remove(path) : fileStats.put(path, stat);
+            if (old != null) {
+                totals.merge(old.bucket(), -old.lines(), Long::sum);
+            }
+            if (stat != null) {
+                totals.merge(stat.bucket(), stat.lines(), Long::sum);
+            }
+        }
+    }
+
+    private Map<String, Long> snapshot() {
+        synchronized (totalsLock) {
+            return new LinkedHashMap<>(totals);
+        }
+    }
+
+    /**
+     * 스냅샷 불러오기 (파일이 없거나 형식이 다르면 무시하고 처음부터 스캔)
+     */
+    private void loadSnapshot() {
+        Path file = resolveSnapshotPath();
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        Path projectRoot = resolveProjectRoot();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.info("코드 통계 스냅샷 형식이 달라 무시합니다: {}", file);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Path path = projectRoot.resolve(in.readUTF());
+                FileStat stat = new FileStat(in.readLong(), in.readLong(), in.readLong(),
+                        in.readLong(), in.readLong(), in.readLong(), in.readUTF());
+                applyFileStat(path, stat);
+            }
+            snapshotLoaded = true;
+            log.info("코드 통계 스냅샷 로드: 파일 {}개", count);
+        } catch (IOException e) {
+            log.warn("코드 통계 스냅샷 로드 실패 (처음부터 스캔): {}", e.getMessage());
+            fileStats.clear();
+            synchronized (totalsLock) {
+                totals.replaceAll((bucket, lines) -> 0L);
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일에 쓴 뒤 교체하므로 저장 도중 종료돼도 기존 파일은 안전)
+     */
+    private synchronized void saveSnapshot() {
+        Path file = resolveSnapshotPath();
+        Path projectRoot = resolveProjectRoot();
+        Map<Path, FileStat> copy;
+        synchronized (totalsLock) {
+            copy = new HashMap<>(fileStats);
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(copy.size());
+                for (Map.Entry<Path, FileStat> entry : copy.entrySet()) {
+                    FileStat stat = entry.getValue();
+                    out.writeUTF(projectRoot.relativize(entry.getKey()).toString());
+                    out.writeLong(stat.lastModified());
+                    out.writeLong(stat.size());
+                    out.writeLong(stat.lines());
+                    out.writeLong(stat.code());
+                    out.writeLong(stat.comment());
+                    out.writeLong(stat.blank());
+                    out.writeUTF(stat.bucket());
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("코드 통계 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Path resolveSnapshotPath() {
+        return Paths.get(codeStatsProperties.getSnapshotPath());
+    }
+
+    // 현재 실행 위치(프로젝트 루트 또는 server 폴더)를 기준으로 프로젝트 루트 결정
+    private Path resolveProjectRoot() {
+        Path startPath = Paths.get(System.getProperty("user.dir"));
+        // 상위 폴더로 한 번 올라가서 'client'와 'server'를 모두 포함하도록 시도 (통합 통계)
+        // 만약 현재가 'server' 폴더 안이라면 상위로 이동
+        if (startPath.endsWith("server")) {
+            startPath = startPath.getParent();
+        }
+        return startPath;
+    }
+
+    // 탐색 대상 폴더 결정
+    private List<Path> resolveScanRoots() {
+        Path startPath = resolveProjectRoot();
+        List<Path> roots = new ArrayList<>();
+        for (String dir : codeStatsProperties.getWatchDirs()) {
+            Path candidate = startPath.resolve(dir).normalize();
+            if (Files.isDirectory(candidate)) {
+                roots.add(candidate);
+            }
+        }
+        // 설정한 폴더가 하나도 없으면 루트 전체를 대상으로 함
+        if (roots.isEmpty()) {
+            roots.add(startPath);
+        }
+        return roots;
+    }
+
+    // 파일 1개를 한 번만 읽어서 줄 분류 (CSS는 // 주석이 없음)
+    private FileStat measure(Path path, BasicFileAttributes attrs) throws IOException {
+        String bucket = bucketOf(path);
+        LineCounts counts = SourceLineCounter.count(path, !bucket.equals("CSS/Style"));
+        return new FileStat(attrs, counts, bucket);
+    }
+
+    /**
+     * 최상위 모듈 (server, client, client/src/components ...)
+     * client/src 아래는 폴더 하나를 모듈로 봄 (화면 단위로 나뉘어 있으므로)
+     */
+    private String moduleOf(Path relative) {
+        int depth = relative.getNameCount();
+        if (depth >= 4 && relative.getName(0).toString().equals("client") && relative.getName(1).toString().equals("src")) {
+            return "client/src/" + relative.getName(2);
+        }
+        if (depth >= 3 && relative.getName(0).toString().equals("client") && relative.getName(1).toString().equals("src")) {
+            return "client/src";
+        }
+        return depth > 1 ? relative.getName(0).toString() : ".";
+    }
+
+    /**
+     * 패키지: Java는 src/main/java 아래 경로를 점으로 이은 패키지명, 그 외는 폴더 경로
+     */
+    private String packageOf(Path relative) {
+        Path parent = relative.getParent();
+        if (parent == null) {
+            return ".";
+        }
+        int javaRoot = -1;
+        for (int i = 0; i + 2 < parent.getNameCount(); i++) {
+            if (parent.getName(i).toString().equals("src") && parent.getName(i + 2).toString().equals("java")) {
+                javaRoot = i + 3;
+                break;
+            }
+        }
+        boolean isJava = javaRoot >= 0 && javaRoot < parent.getNameCount() && relative.toString().endsWith(".java");
+        String separator = isJava ? "." : "/";
+        StringBuilder sb = new StringBuilder();
+        for (int i = isJava ? javaRoot : 0; i < parent.getNameCount(); i++) {
+            if (sb.length() > 0) {
+                sb.append(separator);
+            }
+            sb.append(parent.getName(i));
+        }
+        return sb.toString();
+    }
+
+    private boolean isExcludedDir(Path dir) {
+        Path name = dir.getFileName();
+        return name != null && EXCLUDED_DIRS.contains(name.toString());
+    }
+
+    // 분석할 파일인지 판단 (제외 폴더는 탐색 단계에서 이미 걸러짐)
+    private boolean isSourceCode(Path path) {
+        String p = path.toString();
         // 포함할 확장자
         return p.endsWith(".java") || p.endsWith(".ts") || p.endsWith(".tsx") || p.endsWith(".css") || p.endsWith(".gradle");
     }
 
+    private String bucketOf(Path path) {
+        String ext = getExtension(path.toString());
+        if (ext.equals("java")) {
+            return "Java";
+        } else if (ext.equals("ts") || ext.equals("tsx")) {
+            return "TypeScript/React";
+        } else if (ext.equals("css") || ext.equals("scss")) {
+            return "CSS/Style";
+        }
+        return "Config/Etc";
+    }
+
     private String getExtension(String fileName) {
         int i = fileName.lastIndexOf('.');
         return (i > 0) ? fileName.substring(i + 1) : "";
     }
-}
\ No newline at end of file
+
+    // 파일 1개의 계산 결과 (수정 시간, 크기로 변경 여부 판단)
+    private record FileStat(long lastModified, long size, long lines, long code, long comment, long blank, String bucket) {
+        FileStat(BasicFileAttributes attrs, LineCounts counts, String bucket) {
+            this(attrs.lastModifiedTime().toMillis(), attrs.size(),
+                    counts.total(), counts.code(), counts.comment(), counts.blank(), bucket);
+        }
+
+        boolean matches(BasicFileAttributes attrs) {
+            return lastModified == attrs.lastModifiedTime().toMillis() && size == attrs.size();
+        }
+
+        void addTo(CodeLineStat target) {
+            target.add(lines, code, comment, blank);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.domain.todo.dto.TodoBatchReq;
 import com.example.demo.domain.todo.dto.TodoDTO;
 import com.example.demo.domain.todo.service.TodoService;
 
@@ -56,6 +58,17 @@ public class TodoController {
         return ResponseEntity.ok(updated);
     }
 
+    // 할 일 일괄 추가/수정/삭제 (모두 완료, 완료 항목 삭제 등을 요청 1번 + 커밋 1번으로)
+    // 응답: 변경 후 내 할 일 목록 전체
+    @PatchMapping("/batch")
+    public ResponseEntity<List<TodoDTO>> batchTodos(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody TodoBatchReq request) {
+        if (userDetails == null) return ResponseEntity.status(401).build();
+        List<TodoDTO> todos = todoService.applyBatch(userDetails.getUsername(), request.getOperations());
+        return ResponseEntity.ok(todos);
+    }
+
     // 할 일 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTodo(
@@ -0,0 +1,27 @@
+package com.example.demo.domain.todo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 변경 요청의 작업 1개
+ * - CREATE: todo 필수 (title 필수)
+ * - UPDATE: id, todo 필수 (todo 내용으로 전체 수정)
+ * - DELETE: id 필수
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchOp {
+
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+
+    private Type op;
+    private Long id;
+    private TodoDTO todo;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.domain.todo.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 할 일 일괄 변경 요청 (PATCH /api/todos/batch)
+ * 예: 모두 완료 = UPDATE 여러 개, 완료 항목 삭제 = DELETE 여러 개
+ * 순서대로 한 트랜잭션에서 실행되며, 하나라도 실패하면 전체가 취소됩니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchReq {
+    public static final int MAX_OPERATIONS = 500;
+
+    private List<TodoBatchOp> operations;
+}
@@ -1,5 +1,6 @@
 package com.example.demo.domain.todo.mapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Delete;
@@ -15,14 +16,33 @@ import com.example.demo.domain.todo.dto.TodoDTO;
 @Mapper
 public interface TodoMapper {
 
-    // 1. 특정 사용자의 모든 할 일 조회 (최신 순 + 미완료 우선 정렬)
-    @Select("SELECT id, user_id as userId, title, description, due_date as dueDate, " +
+    // 조회 컬럼 (목록/단건 공통)
+    String COLUMNS = "id, user_id as userId, title, description, due_date as dueDate, " +
             "is_completed as isCompleted, source, external_id as externalId, " +
-            "created_at as createdAt, updated_at as updatedAt " +
+            "created_at as createdAt, updated_at as updatedAt ";
+
+    // 1. 특정 사용자의 모든 할 일 조회 (최신 순 + 미완료 우선 정렬)
+    // 인덱스: idx_todos_user_completed_due (V3)
+    @Select("SELECT " + COLUMNS +
             "FROM todos WHERE user_id = #{userId} " +
             "ORDER BY is_completed ASC, due_date ASC, created_at DESC")
     List<TodoDTO> findByUserId(String userId);
 
+    // 1-1. 할 일 1건 조회 (추가/수정 직후 캐시에 넣을 최신 행, 본인 것만)
+    @Select("SELECT " + COLUMNS +
+            "FROM todos WHERE id = #{id} AND user_id = #{userId}")
+    TodoDTO findById(@Param("id") Long id, @Param("userId") String userId);
+
+    // 1-2. 알림 대상: 아직 완료되지 않았고 마감이 from 이후인 할 일 (서버 기동 시 1번만 조회)
+    @Select("SELECT " + COLUMNS +
+            "FROM todos WHERE is_completed = FALSE AND due_date > #{from}")
+    List<TodoDTO> findUpcomingDue(@Param("from") LocalDateTime from);
+
+    // 1-3. 검색 색인 재구성용 (id 순 키셋 페이지, 전체 사용자)
+    @Select("SELECT " + COLUMNS +
+            "FROM todos WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<TodoDTO> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
     // 2. 새 할 일 추가
     @Insert("INSERT INTO todos (user_id, title, description, due_date, is_completed, source, external_id) " +
             "VALUES (#{userId}, #{title}, #{description}, #{dueDate}, #{isCompleted}, #{source}, #{externalId})")
@@ -36,7 +56,7 @@ public interface TodoMapper {
             "WHERE id = #{id} AND user_id = #{userId}")
     void update(TodoDTO todo);
 
-    // 4. 할 일 삭제
+    // 4. 할 일 삭제 (삭제된 행 수 반환, 없거나 다른 사용자의 할 일이면 0)
     @Delete("DELETE FROM todos WHERE id = #{id} AND user_id = #{userId}")
-    void delete(@Param("id") Long id, @Param("userId") String userId);
+    int delete(@Param("id") Long id, @Param("userId") String userId);
 }
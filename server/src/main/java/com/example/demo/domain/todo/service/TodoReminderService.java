@@ -0,0 +1,146 @@
+package com.example.demo.domain.todo.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.domain.todo.dto.TodoDTO;
+import com.example.demo.domain.todo.mapper.TodoMapper;
+import com.example.demo.domain.user.service.SessionService;
+import com.example.demo.global.config.SchedulingConfig;
+import com.example.demo.global.config.TodoReminderProperties;
+import com.example.demo.global.metrics.SchedulerMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 할 일 마감 알림 (TODO_DUE 웹소켓 이벤트)
+ * <p>
+ * 서버 기동 시 한 번만 DB에서 다가오는 마감을 읽어 타이밍 휠에 올리고, 이후에는 TodoService의
+ * 추가/수정/삭제가 커밋될 때마다 휠을 직접 고칩니다 (todos 테이블을 주기적으로 조회하지 않음).
+ * 알림 시각이 되면 작성자의 열린 웹소켓 모두에 보냅니다. 접속 중이 아니면 보내지 않고 버립니다.
+ * 서버가 꺼져 있던 동안 지난 알림은 다시 보내지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TodoReminderService {
+
+    private final TodoMapper todoMapper;
+    private final SessionService sessionService;
+    private final TodoReminderProperties reminderProperties;
+    private final SchedulerMetrics schedulerMetrics;
+    private final TodoReminderWheel wheel; // 잠금: synchronized (wheel)
+
+    public TodoReminderService(TodoMapper todoMapper, SessionService sessionService,
+            TodoReminderProperties reminderProperties, SchedulerMetrics schedulerMetrics) {
+        this.todoMapper = todoMapper;
+        this.sessionService = sessionService;
+        this.reminderProperties = reminderProperties;
+        this.schedulerMetrics = schedulerMetrics;
+        this.wheel = new TodoReminderWheel(reminderProperties.getTickMs(), reminderProperties.getWheelSize(),
+                System.currentTimeMillis());
+    }
+
+    // 서버 기동 시 다가오는 마감 로드 (알림 시각이 이미 지난 것은 제외)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadUpcoming() {
+        if (!reminderProperties.isEnabled()) {
+            return;
+        }
+        LocalDateTime from = LocalDateTime.now().plusMinutes(reminderProperties.getRemindBeforeMinutes());
+        List<TodoDTO> todos = todoMapper.findUpcomingDue(from);
+        for (TodoDTO todo : todos) {
+            schedule(todo);
+        }
+        log.info("할 일 마감 알림 로드: {}건", todos.size());
+    }
+
+    /**
+     * 할 일 1건의 알림 갱신 (추가/수정 커밋 후 호출)
+     * 완료됐거나 마감이 없거나 알림 시각이 지났으면 취소만 합니다.
+     */
+    public void schedule(TodoDTO todo) {
+        if (!reminderProperties.isEnabled() || todo == null || todo.getId() == null) {
+            return;
+        }
+        long remindAtMs = remindAtMs(todo);
+        synchronized (wheel) {
+            if (remindAtMs <= System.currentTimeMillis()) {
+                wheel.cancel(todo.getId());
+            } else {
+                wheel.schedule(todo.getId(), todo.getUserId(), todo.getTitle(), todo.getDueDate(), remindAtMs);
+            }
+        }
+    }
+
+    // 할 일 삭제 커밋 후 호출 (userId의 알림만 취소)
+    public void cancel(String userId, Long todoId) {
+        synchronized (wheel) {
+            wheel.cancel(userId, todoId);
+        }
+    }
+
+    // 일괄 변경 커밋 후 호출: 사용자의 알림을 변경 후 목록 기준으로 다시 등록
+    public void replaceUser(String userId, List<TodoDTO> todos) {
+        if (!reminderProperties.isEnabled()) {
+            return;
+        }
+        synchronized (wheel) {
+            wheel.cancelUser(userId);
+        }
+        for (TodoDTO todo : todos) {
+            schedule(todo);
+        }
+    }
+
+    // 휠 1칸 진행 (밀린 칸은 한 번에 처리하므로 tick을 건너뛰어도 알림은 빠지지 않음)
+    @Scheduled(fixedRateString = "${app.todo-reminder.tick-ms:1000}", scheduler = SchedulingConfig.REALTIME)
+    public void tick() {
+        if (!reminderProperties.isEnabled()) {
+            return;
+        }
+        schedulerMetrics.fixedRate("todo-reminder", reminderProperties.getTickMs(), () -> {
+            List<TodoReminderWheel.Reminder> due;
+            synchronized (wheel) {
+                due = wheel.advance(System.currentTimeMillis());
+            }
+            for (TodoReminderWheel.Reminder reminder : due) {
+                notifyDue(reminder);
+            }
+        });
+    }
+
+    private void notifyDue(TodoReminderWheel.Reminder reminder) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "TODO_DUE");
+        message.put("todoId", reminder.todoId);
+        message.put("title", reminder.title);
+        message.put("dueDate", reminder.dueDate != null ? reminder.dueDate.toString() : null);
+        message.put("timestamp", System.currentTimeMillis());
+        try {
+            int sent = sessionService.sendToUser(reminder.userId, message);
+            log.debug("[마감 알림] userId={}, todoId={}, 소켓 수={}", reminder.userId, reminder.todoId, sent);
+        } catch (Exception e) {
+            log.warn("[마감 알림 실패] userId={}, todoId={}, error={}", reminder.userId, reminder.todoId, e.getMessage());
+        }
+    }
+
+    private long remindAtMs(TodoDTO todo) {
+        if (todo.getDueDate() == null || Boolean.TRUE.equals(todo.getIsCompleted())) {
+            return Long.MIN_VALUE;
+        }
+        return todo.getDueDate()
+                .minusMinutes(reminderProperties.getRemindBeforeMinutes())
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+}
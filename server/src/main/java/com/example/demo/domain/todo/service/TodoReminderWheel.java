@@ -0,0 +1,170 @@
+package com.example.demo.domain.todo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 할 일 마감 알림용 타이밍 휠 (해시드 휠 + 먼 미래용 대기열, 2단 구조)
+ * <p>
+ * 1단: 슬롯 wheelSize개짜리 원형 배열. 한 칸 = tickMs. 한 바퀴(tickMs * wheelSize) 안에 울릴 알림만 담습니다.
+ * 2단: 그보다 먼 알림은 마감 시각 순 우선순위 큐에 두고, 휠이 돌면서 한 바퀴 범위 안으로 들어오면 휠로 옮깁니다.
+ * 따라서 tick 1번의 비용은 슬롯 1칸 처리 + 만료된 알림 수이며, 전체 알림 수와 무관합니다 (큐 이동은 알림당 1번).
+ * 취소는 표시만 하고 슬롯을 돌 때 건너뜁니다 (O(1)).
+ * 동기화는 호출하는 쪽(TodoReminderService)에서 합니다.
+ * </p>
+ */
+final class TodoReminderWheel {
+
+    private final long tickMs;
+    private final int mask;
+    private final List<List<Reminder>> slots;
+    private final PriorityQueue<Reminder> overflow =
+            new PriorityQueue<>((a, b) -> Long.compare(a.deadlineTick, b.deadlineTick));
+    private final Map<Long, Reminder> byTodoId = new HashMap<>();
+    private final Map<String, Set<Long>> byUserId = new HashMap<>();
+    private long currentTick; // 마지막으로 처리한 tick 번호 (epoch ms / tickMs)
+
+    TodoReminderWheel(long tickMs, int wheelSize, long nowMs) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMs = tickMs;
+        this.mask = wheelSize - 1;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = nowMs / tickMs;
+    }
+
+    /**
+     * 알림 등록 (같은 할 일의 기존 알림은 교체). 이미 지난 시각이면 다음 tick에 울림
+     */
+    void schedule(Long todoId, String userId, String title, LocalDateTime dueDate, long remindAtMs) {
+        cancel(todoId);
+        Reminder reminder = new Reminder(todoId, userId, title, dueDate, Math.max(ceilDiv(remindAtMs, tickMs), currentTick + 1));
+        byTodoId.put(todoId, reminder);
+        byUserId.computeIfAbsent(userId, key -> new HashSet<>()).add(todoId);
+        place(reminder);
+    }
+
+    void cancel(Long todoId) {
+        Reminder reminder = byTodoId.remove(todoId);
+        if (reminder != null) {
+            reminder.cancelled = true;
+            unindexUser(reminder);
+        }
+    }
+
+    // 해당 사용자의 알림일 때만 취소 (다른 사용자의 할 일 id로는 취소되지 않음)
+    void cancel(String userId, Long todoId) {
+        Reminder reminder = byTodoId.get(todoId);
+        if (reminder != null && reminder.userId.equals(userId)) {
+            cancel(todoId);
+        }
+    }
+
+    // 사용자의 알림 전체 취소 (일괄 변경 후 다시 등록할 때)
+    void cancelUser(String userId) {
+        Set<Long> todoIds = byUserId.remove(userId);
+        if (todoIds == null) {
+            return;
+        }
+        for (Long todoId : todoIds) {
+            Reminder reminder = byTodoId.remove(todoId);
+            if (reminder != null) {
+                reminder.cancelled = true;
+            }
+        }
+    }
+
+    int size() {
+        return byTodoId.size();
+    }
+
+    /**
+     * 현재 시각까지 휠을 돌리고 울릴 알림을 돌려줌
+     * 스케줄러가 밀려서 여러 tick을 한 번에 처리해도 빠지는 알림이 없습니다.
+     */
+    List<Reminder> advance(long nowMs) {
+        List<Reminder> due = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+        // 한 바퀴 이상 밀렸으면 슬롯을 한 바퀴만 돌면 됨 (휠의 알림은 모두 한 바퀴 범위 안)
+        long steps = Math.min(targetTick - currentTick, (long) mask + 1);
+        for (long i = 1; i <= steps; i++) {
+            List<Reminder> slot = slots.get((int) ((currentTick + i) & mask));
+            for (Reminder reminder : slot) {
+                fire(reminder, due);
+            }
+            slot.clear();
+        }
+        if (targetTick > currentTick) {
+            currentTick = targetTick;
+        }
+        // 한 바퀴 범위 안으로 들어온 먼 알림을 휠로 이동 (이미 지난 것은 바로 울림)
+        while (!overflow.isEmpty() && overflow.peek().deadlineTick - currentTick <= mask) {
+            Reminder reminder = overflow.poll();
+            if (reminder.deadlineTick <= currentTick) {
+                fire(reminder, due);
+            } else if (!reminder.cancelled) {
+                slots.get((int) (reminder.deadlineTick & mask)).add(reminder);
+            }
+        }
+        return due;
+    }
+
+    private void place(Reminder reminder) {
+        if (reminder.deadlineTick - currentTick <= mask) {
+            slots.get((int) (reminder.deadlineTick & mask)).add(reminder);
+        } else {
+            overflow.add(reminder);
+        }
+    }
+
+    private void fire(Reminder reminder, List<Reminder> due) {
+        if (reminder.cancelled) {
+            return;
+        }
+        byTodoId.remove(reminder.todoId);
+        unindexUser(reminder);
+        due.add(reminder);
+    }
+
+    private void unindexUser(Reminder reminder) {
+        Set<Long> todoIds = byUserId.get(reminder.userId);
+        if (todoIds != null) {
+            todoIds.remove(reminder.todoId);
+            if (todoIds.isEmpty()) {
+                byUserId.remove(reminder.userId);
+            }
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    // 알림 1건
+    static final class Reminder {
+        final Long todoId;
+        final String userId;
+        final String title;
+        final LocalDateTime dueDate;
+        final long deadlineTick;
+        boolean cancelled;
+
+        Reminder(Long todoId, String userId, String title, LocalDateTime dueDate, long deadlineTick) {
+            this.todoId = todoId;
+            this.userId = userId;
+            this.title = title;
+            this.dueDate = dueDate;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -1,39 +1,100 @@
 package com.example.demo.domain.todo.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.domain.search.service.SearchService;
+import com.example.demo.domain.todo.dto.TodoBatchOp;
+import com.example.demo.domain.todo.dto.TodoBatchReq;
 import com.example.demo.domain.todo.dto.TodoDTO;
 import com.example.demo.domain.todo.mapper.TodoMapper;
+import com.example.demo.global.config.CacheConfig.CacheType;
+import com.example.demo.global.exception.CustomException;
+import com.example.demo.global.exception.ErrorCode;
+import com.example.demo.global.util.TransactionUtil;
 
-import lombok.RequiredArgsConstructor;
-
+/**
+ * 할 일 서비스
+ * <p>
+ * 사용자별 목록을 "todos" 캐시에 정렬된 상태로 보관하고, 추가/수정/삭제 시 DB를 다시 조회하지 않고
+ * 해당 항목만 빼고 제자리에 끼워 넣습니다 (write-through). 캐시 미스일 때만 DB에서 목록을 읽습니다.
+ * 목록은 여러 요청이 동시에 읽으므로 고치지 않고 복사본으로 교체합니다.
+ * </p>
+ */
 @Service
-@RequiredArgsConstructor
 public class TodoService {
 
+    // TodoMapper.findByUserId의 ORDER BY와 같은 순서
+    // 미완료 먼저 -> 마감일 빠른 순 (없으면 앞, DB의 NULL 정렬과 동일) -> 최근 생성 순 -> id (같은 값 정리용)
+    static final Comparator<TodoDTO> TODO_ORDER = Comparator
+            .comparing(TodoDTO::getIsCompleted, Comparator.nullsFirst(Comparator.<Boolean>naturalOrder()))
+            .thenComparing(TodoDTO::getDueDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TodoDTO::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TodoDTO::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    // todos 컬럼 길이 (V1__init_schema.sql)
+    private static final int TITLE_MAX_LENGTH = 255;
+    private static final int SOURCE_MAX_LENGTH = 50;
+    private static final int EXTERNAL_ID_MAX_LENGTH = 255;
+
     private final TodoMapper todoMapper;
+    private final CacheManager cacheManager;
+    // 일괄 변경 전용 매퍼 (ExecutorType.BATCH: 문장을 모아뒀다가 JDBC 배치로 한 번에 전송)
+    private final TodoMapper batchTodoMapper;
+    private final TodoReminderService todoReminderService; // 마감 알림 (변경 커밋 후 함께 갱신)
+    private final SearchService searchService;             // 검색 색인 (변경 커밋 후 함께 갱신)
+
+    public TodoService(TodoMapper todoMapper, CacheManager cacheManager, SqlSessionFactory sqlSessionFactory,
+            TodoReminderService todoReminderService, SearchService searchService) {
+        this.todoMapper = todoMapper;
+        this.cacheManager = cacheManager;
+        this.todoReminderService = todoReminderService;
+        this.searchService = searchService;
+        // SqlSessionTemplate을 빈으로 등록하면 기본(SIMPLE) 템플릿 자동 설정이 빠지므로 여기서만 만들어 씀
+        this.batchTodoMapper = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH).getMapper(TodoMapper.class);
+    }
 
     public List<TodoDTO> getTodos(String userId) {
-        return todoMapper.findByUserId(userId);
+        Cache cache = cacheManager.getCache(CacheType.TODOS.getCacheName());
+        if (cache == null) {
+            return todoMapper.findByUserId(userId);
+        }
+        // 캐시 미스일 때만 DB 조회 (같은 사용자의 동시 요청은 한 번만 조회)
+        return cache.get(userId, () -> {
+            List<TodoDTO> todos = new ArrayList<>(todoMapper.findByUserId(userId));
+            todos.sort(TODO_ORDER); // 이미 정렬되어 있어 비용은 거의 없음 (같은 값끼리의 순서만 고정)
+            return Collections.unmodifiableList(todos);
+        });
     }
 
     @Transactional
     public TodoDTO createTodo(String userId, TodoDTO todoDto) {
         // 보안: 컨트롤러에서 넘겨받은 인증된 userId 강제 주입
         todoDto.setUserId(userId);
-        
-        // 기본값 설정 (명시되지 않았을 경우)
-        if (todoDto.getIsCompleted() == null) {
-            todoDto.setIsCompleted(false);
-        }
-        if (todoDto.getSource() == null || todoDto.getSource().isEmpty()) {
-            todoDto.setSource("LOCAL");
-        }
-        
+        applyDefaults(todoDto);
+
         todoMapper.insert(todoDto);
+        // created_at 등 DB 기본값이 채워진 행을 캐시에 넣음
+        TodoDTO saved = todoMapper.findById(todoDto.getId(), userId);
+        TransactionUtil.afterCommit(() -> {
+            updateCachedTodos(userId, todos -> replace(todos, null, saved));
+            todoReminderService.schedule(saved);
+            searchService.indexTodo(saved);
+        });
         return todoDto; // id가 세팅된 상태로 리턴됨
     }
 
@@ -41,11 +102,177 @@ public class TodoService {
     public TodoDTO updateTodo(String userId, TodoDTO todoDto) {
         todoDto.setUserId(userId); // 권한 체크 겸 세팅
         todoMapper.update(todoDto);
-        return todoDto;
+        TodoDTO saved = todoMapper.findById(todoDto.getId(), userId);
+        if (saved == null) {
+            return todoDto; // 없거나 다른 사용자의 할 일 (수정된 행 없음)
+        }
+        // 완료 토글 등으로 정렬 위치가 바뀌므로 기존 항목을 빼고 새 위치에 끼워 넣음
+        TransactionUtil.afterCommit(() -> {
+            updateCachedTodos(userId, todos -> replace(todos, saved.getId(), saved));
+            todoReminderService.schedule(saved); // 완료 처리되면 알림 취소, 마감 변경이면 다시 등록
+            searchService.indexTodo(saved);
+        });
+        return saved;
     }
 
     @Transactional
     public void deleteTodo(String userId, Long todoId) {
-        todoMapper.delete(todoId, userId);
+        if (todoMapper.delete(todoId, userId) == 0) {
+            return; // 없거나 다른 사용자의 할 일 (알림/검색 색인을 건드리지 않음)
+        }
+        TransactionUtil.afterCommit(() -> {
+            updateCachedTodos(userId, todos -> replace(todos, todoId, null));
+            todoReminderService.cancel(userId, todoId);
+            searchService.removeTodo(todoId);
+        });
+    }
+
+    /**
+     * 일괄 추가/수정/삭제 (한 트랜잭션)
+     * <p>
+     * BATCH 실행기로 UPDATE/DELETE/INSERT를 모아 JDBC 배치로 보내고, 마지막 목록 조회 직전에 한 번에 실행합니다.
+     * 한 트랜잭션 안에서는 실행기 종류를 섞을 수 없으므로 이 메서드에서는 batchTodoMapper만 사용합니다.
+     * 작업 검증은 실행 전에 모두 끝내서, 잘못된 요청이 일부만 반영되는 일이 없게 합니다.
+     * 변경 후 목록은 커밋 뒤 캐시에 통째로 넣습니다.
+     * </p>
+     *
+     * @return 변경 후 사용자의 할 일 목록 (정렬됨)
+     */
+    @Transactional
+    public List<TodoDTO> applyBatch(String userId, List<TodoBatchOp> operations) {
+        if (operations == null || operations.isEmpty()) {
+            return getTodos(userId);
+        }
+        if (operations.size() > TodoBatchReq.MAX_OPERATIONS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        for (TodoBatchOp operation : operations) {
+            validate(operation);
+        }
+        // 검색 색인에서 뺄 id: 실행 전에 이 사용자 소유였던 삭제 대상만 (다른 사용자의 id는 DB에서도 지워지지 않음)
+        Set<Long> deletedIds = ownedDeleteIds(userId, operations);
+
+        for (TodoBatchOp operation : operations) {
+            switch (operation.getOp()) {
+                case CREATE -> {
+                    TodoDTO todo = operation.getTodo();
+                    todo.setId(null);
+                    todo.setUserId(userId); // 보안: 인증된 userId 강제 주입
+                    applyDefaults(todo);
+                    batchTodoMapper.insert(todo);
+                }
+                case UPDATE -> {
+                    TodoDTO todo = operation.getTodo();
+                    todo.setId(operation.getId());
+                    todo.setUserId(userId); // 권한 체크 겸 세팅
+                    batchTodoMapper.update(todo);
+                }
+                case DELETE -> batchTodoMapper.delete(operation.getId(), userId);
+            }
+        }
+
+        // BATCH 실행기는 조회 전에 쌓인 문장을 먼저 실행(flush)하므로 변경이 반영된 목록을 읽음
+        List<TodoDTO> todos = new ArrayList<>(batchTodoMapper.findByUserId(userId));
+        todos.sort(TODO_ORDER);
+        List<TodoDTO> result = Collections.unmodifiableList(todos);
+        TransactionUtil.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CacheType.TODOS.getCacheName());
+            if (cache != null) {
+                cache.put(userId, result);
+            }
+            todoReminderService.replaceUser(userId, result);
+            deletedIds.forEach(searchService::removeTodo);
+            // 배치로 추가된 항목은 id를 미리 알 수 없으므로 변경 후 목록 전체를 다시 색인 (같은 id는 교체)
+            result.forEach(searchService::indexTodo);
+        });
+        return result;
+    }
+
+    // 삭제 작업 id 중 현재 사용자 소유인 것 (삭제 작업이 없으면 조회하지 않음)
+    private Set<Long> ownedDeleteIds(String userId, List<TodoBatchOp> operations) {
+        Set<Long> requested = new HashSet<>();
+        for (TodoBatchOp operation : operations) {
+            if (operation.getOp() == TodoBatchOp.Type.DELETE) {
+                requested.add(operation.getId());
+            }
+        }
+        if (requested.isEmpty()) {
+            return requested;
+        }
+        Set<Long> owned = new HashSet<>();
+        for (TodoDTO todo : batchTodoMapper.findByUserId(userId)) {
+            if (requested.contains(todo.getId())) {
+                owned.add(todo.getId());
+            }
+        }
+        return owned;
+    }
+
+    private static void validate(TodoBatchOp operation) {
+        if (operation == null || operation.getOp() == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        boolean valid = switch (operation.getOp()) {
+            case CREATE -> isWritable(operation.getTodo());
+            case UPDATE -> operation.getId() != null && isWritable(operation.getTodo());
+            case DELETE -> operation.getId() != null;
+        };
+        if (!valid) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * INSERT/UPDATE가 DB 제약에 걸리지 않는 값인지 (todos 테이블: title NOT NULL, 컬럼 길이)
+     * 배치 실행 중에 DB 오류가 나면 요청 전체가 500으로 끝나므로, 실행 전에 400으로 거릅니다.
+     */
+    private static boolean isWritable(TodoDTO todo) {
+        return todo != null
+                && todo.getTitle() != null && !todo.getTitle().isBlank()
+                && todo.getTitle().length() <= TITLE_MAX_LENGTH
+                && (todo.getSource() == null || todo.getSource().length() <= SOURCE_MAX_LENGTH)
+                && (todo.getExternalId() == null || todo.getExternalId().length() <= EXTERNAL_ID_MAX_LENGTH);
+    }
+
+    // 기본값 설정 (명시되지 않았을 경우)
+    private static void applyDefaults(TodoDTO todo) {
+        if (todo.getIsCompleted() == null) {
+            todo.setIsCompleted(false);
+        }
+        if (todo.getSource() == null || todo.getSource().isEmpty()) {
+            todo.setSource("LOCAL");
+        }
+    }
+
+    /**
+     * 정렬된 목록에서 removeId 항목을 빼고 added를 정렬 위치에 넣은 새 목록 (각각 null이면 생략)
+     */
+    static List<TodoDTO> replace(List<TodoDTO> todos, Long removeId, TodoDTO added) {
+        List<TodoDTO> updated = new ArrayList<>(todos.size() + 1);
+        for (TodoDTO todo : todos) {
+            if (removeId == null || !removeId.equals(todo.getId())) {
+                updated.add(todo);
+            }
+        }
+        if (added != null) {
+            int index = Collections.binarySearch(updated, added, TODO_ORDER);
+            updated.add(index < 0 ? -index - 1 : index, added);
+        }
+        return Collections.unmodifiableList(updated);
+    }
+
+    /**
+     * 캐시된 목록이 있을 때만 교체 (없으면 다음 조회 때 DB에서 읽음)
+     * 같은 사용자의 동시 변경이 서로 덮어쓰지 않도록 Caffeine 맵의 computeIfPresent로 원자적으로 교체합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void updateCachedTodos(String userId, UnaryOperator<List<TodoDTO>> update) {
+        Cache cache = cacheManager.getCache(CacheType.TODOS.getCacheName());
+        if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap()
+                    .computeIfPresent(userId, (key, todos) -> update.apply((List<TodoDTO>) todos));
+        } else if (cache != null) {
+            cache.evict(userId);
+        }
     }
 }
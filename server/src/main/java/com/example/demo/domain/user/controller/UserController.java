@@ -10,11 +10,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.domain.user.dto.AccessLogSearchReq;
 import com.example.demo.domain.user.dto.LoginReq;
 import com.example.demo.domain.user.dto.LoginRes;
 import com.example.demo.domain.user.entity.AccessLog;
@@ -181,10 +183,10 @@ public class UserController {
         return ResponseEntity.ok().body("로그아웃되었습니다.");
     }
 
-    @Operation(summary = "사용자 활동 로그 조회")
+    @Operation(summary = "사용자 활동 로그 조회 (cursorId, type, from, to, size)")
     @GetMapping("/logs")
-    public List<AccessLog> getMyLogs(@AuthenticationPrincipal UserDetails userDetails) {
+    public List<AccessLog> getMyLogs(@AuthenticationPrincipal UserDetails userDetails, @ModelAttribute AccessLogSearchReq req) {
         // 남의 아이디를 넣어서 훔쳐볼 수 없게 됨 (토큰에 있는 내 아이디 사용)
-        return userService.getLogs(userDetails.getUsername());
+        return userService.getLogs(userDetails.getUsername(), req);
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.demo.domain.user.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 접속 로그 조회 조건 (키셋 페이지네이션)
+ * - cursorId: 이전 페이지 마지막 로그의 id (없으면 첫 페이지)
+ * - type/from/to: 선택 필터
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccessLogSearchReq {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private String userId;    // 컨트롤러에서 토큰의 userId로 강제 설정
+    private Long cursorId;    // 이 id보다 오래된 로그부터 조회
+    private String type;      // LOGIN, LOGOUT, KICK 등
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from; // 시작 시각 (포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;   // 종료 시각 (미포함)
+    private Integer size;       // 페이지 크기 (기본 20, 최대 100)
+}
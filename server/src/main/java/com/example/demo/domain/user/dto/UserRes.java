@@ -1,5 +1,7 @@
 package com.example.demo.domain.user.dto;
 
+import java.io.Serializable;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class UserRes {
+public class UserRes implements Serializable { // 2차 캐시(로컬 파일) 저장용
     private String id;
     private String name;
     private String role;
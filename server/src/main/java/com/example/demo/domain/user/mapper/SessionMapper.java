@@ -63,7 +63,8 @@ public interface SessionMapper {
     void deleteByUserId(@Param("userId") String userId);
 
     // 9. 오래된 세션 자동 정리
-    @Delete("DELETE FROM user_sessions WHERE last_accessed_at < DATE_SUB(NOW(), INTERVAL #{days} DAY)")
+    // TIMESTAMPADD: H2(MySQL 모드)와 MySQL 모두 지원 (H2에는 DATE_SUB가 없음)
+    @Delete("DELETE FROM user_sessions WHERE last_accessed_at < TIMESTAMPADD(DAY, -#{days}, NOW())")
     void deleteExpiredSessions(@Param("days") int days);
 
     // 10. 리프레시 토큰 및 접속 시간 갱신
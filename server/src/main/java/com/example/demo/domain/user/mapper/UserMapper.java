@@ -1,13 +1,16 @@
 package com.example.demo.domain.user.mapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
+import com.example.demo.domain.user.dto.AccessLogSearchReq;
 import com.example.demo.domain.user.entity.AccessLog;
 import com.example.demo.domain.user.entity.User;
 
@@ -21,10 +24,6 @@ public interface UserMapper {
     @Select("SELECT * FROM users")
     List<User> findAll();
 
-    // 온라인 사용자 목록 조회
-    @Select("SELECT * FROM users WHERE is_online = true")
-    List<User> findOnlineUsers();
-
     // 사용자 접속 상태 업데이트
     @Update("UPDATE users SET is_online = #{status} WHERE id = #{id}")
     void updateStatus(@Param("id") String id, @Param("status") boolean status);
@@ -38,9 +37,36 @@ public interface UserMapper {
             "VALUES (#{userId}, #{sessionId}, #{ipAddress}, #{location}, #{userAgent}, #{browser}, #{os}, #{endpoint}, #{type})")
     void saveLog(AccessLog log);
 
-    // 사용자 접속 로그 조회
-    @Select("SELECT * FROM access_log WHERE user_id = #{userId} ORDER BY log_time DESC")
-    List<AccessLog> findLogs(@Param("userId") String userId);
+    // 사용자 접속 로그 조회 (키셋 페이지네이션, idx_access_log_user_time 사용)
+    // OFFSET 대신 이전 페이지 마지막 로그(cursorId) 기준으로 잘라내므로 페이지가 깊어져도 비용이 일정함
+    @Select({"<script>",
+            "SELECT * FROM access_log WHERE user_id = #{userId}",
+            "<if test='type != null and type != \"\"'> AND type = #{type}</if>",
+            "<if test='from != null'> AND log_time &gt;= #{from}</if>",
+            "<if test='to != null'> AND log_time &lt; #{to}</if>",
+            "<if test='cursorId != null'>",
+            "  AND (log_time &lt; (SELECT log_time FROM access_log WHERE id = #{cursorId})",
+            "   OR (log_time = (SELECT log_time FROM access_log WHERE id = #{cursorId}) AND id &lt; #{cursorId}))",
+            "</if>",
+            "ORDER BY log_time DESC, id DESC LIMIT #{size}",
+            "</script>"})
+    List<AccessLog> findLogs(AccessLogSearchReq req);
+
+    // [보관 정책] 기준 시각 이전 로그 중 가장 오래된 batchSize개의 마지막 id 조회 (PK 순서로 잘라냄)
+    @Select("SELECT MAX(id) FROM (SELECT id FROM access_log WHERE log_time < #{cutoff} ORDER BY id LIMIT #{batchSize})")
+    Long findExpiredLogBatchEnd(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    // [보관 정책] 삭제 대상 로그를 일별/사용자별/타입별로 집계하여 누적
+    @Insert("INSERT INTO access_log_daily (log_date, user_id, type, cnt) " +
+            "SELECT CAST(log_time AS DATE), COALESCE(user_id, '-'), COALESCE(type, 'UNKNOWN'), COUNT(*) " +
+            "FROM access_log WHERE log_time < #{cutoff} AND id <= #{maxId} " +
+            "GROUP BY CAST(log_time AS DATE), COALESCE(user_id, '-'), COALESCE(type, 'UNKNOWN') " +
+            "ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)")
+    int rollupExpiredLogs(@Param("cutoff") LocalDateTime cutoff, @Param("maxId") Long maxId);
+
+    // [보관 정책] 집계가 끝난 원본 로그 삭제 (PK 범위 삭제라 잠금 구간이 짧음)
+    @Delete("DELETE FROM access_log WHERE log_time < #{cutoff} AND id <= #{maxId}")
+    int deleteExpiredLogs(@Param("cutoff") LocalDateTime cutoff, @Param("maxId") Long maxId);
 
     // 비밀번호 강제 변경 기능
     @Update("UPDATE users SET password = #{password} WHERE id = #{id}")
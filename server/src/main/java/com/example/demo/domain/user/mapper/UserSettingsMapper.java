@@ -1,6 +1,5 @@
 package com.example.demo.domain.user.mapper;
 
-import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
@@ -13,14 +12,10 @@ public interface UserSettingsMapper {
     @Select("SELECT user_id as userId, google_calendar_id as googleCalendarId, google_api_key as googleApiKey, default_ai_engine as defaultAiEngine FROM user_settings WHERE user_id = #{userId}")
     UserSettingsDTO findSettingsByUserId(String userId);
 
-    @Insert("INSERT INTO user_settings (user_id, google_calendar_id, google_api_key, default_ai_engine) " +
+    // 있으면 UPDATE, 없으면 INSERT를 문장 1개로 (H2 MERGE ... KEY, PK 기준)
+    // 기존의 SELECT 후 INSERT/UPDATE는 왕복 2번에, 동시 첫 저장 시 PK 충돌이 날 수 있었음
+    @Update("MERGE INTO user_settings (user_id, google_calendar_id, google_api_key, default_ai_engine) " +
+            "KEY (user_id) " +
             "VALUES (#{userId}, #{googleCalendarId}, #{googleApiKey}, #{defaultAiEngine})")
-    void insertSettings(UserSettingsDTO settings);
-
-    @Update("UPDATE user_settings SET " +
-            "google_calendar_id = #{googleCalendarId}, " +
-            "google_api_key = #{googleApiKey}, " +
-            "default_ai_engine = #{defaultAiEngine} " +
-            "WHERE user_id = #{userId}")
-    void updateSettings(UserSettingsDTO settings);
+    void upsertSettings(UserSettingsDTO settings);
 }
@@ -0,0 +1,38 @@
+package com.example.demo.domain.user.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.domain.user.mapper.UserMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 접속 로그 보관 정책
+ * 보관 기간이 지난 원본 로그를 일별 집계(access_log_daily)로 누적한 뒤 작은 배치 단위로 삭제합니다.
+ * 배치 하나가 하나의 트랜잭션이므로 집계와 삭제가 항상 함께 커밋됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessLogRetentionService {
+
+    private final UserMapper userMapper;
+
+    /**
+     * 배치 1회 처리 (집계 + 삭제)
+     * @return 삭제된 로그 수 (0이면 더 이상 처리할 로그 없음)
+     */
+    @Transactional
+    public int purgeBatch(LocalDateTime cutoff, int batchSize) {
+        Long maxId = userMapper.findExpiredLogBatchEnd(cutoff, batchSize);
+        if (maxId == null) {
+            return 0;
+        }
+        userMapper.rollupExpiredLogs(cutoff, maxId);
+        return userMapper.deleteExpiredLogs(cutoff, maxId);
+    }
+}
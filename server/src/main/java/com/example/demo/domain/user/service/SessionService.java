@@ -1,15 +1,16 @@
 package com.example.demo.domain.user.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.socket.CloseStatus;
@@ -20,10 +21,12 @@ import com.example.demo.domain.user.dto.UserRes;
 import com.example.demo.domain.user.entity.Session;
 import com.example.demo.domain.user.event.NewDeviceLoginEvent;
 import com.example.demo.domain.user.mapper.SessionMapper;
-import com.example.demo.domain.user.mapper.UserMapper;
+import com.example.demo.global.config.PresenceProperties;
+import com.example.demo.global.config.SchedulingConfig;
 import com.example.demo.global.constant.SecurityConstants;
 import com.example.demo.global.exception.CustomException;
 import com.example.demo.global.exception.ErrorCode;
+import com.example.demo.global.metrics.SchedulerMetrics;
 import com.example.demo.global.security.JwtTokenProvider;
 import com.example.demo.global.util.CookieUtil;
 import com.example.demo.handler.WebSocketHandler;
@@ -37,21 +40,32 @@ import lombok.extern.slf4j.Slf4j;
 public class SessionService {
 
     private final SessionMapper sessionMapper;
-    private final UserMapper userMapper; // Online List 조회용
-    private final UserService userService;
+    private final UserService userService; // Online List 사용자 정보 조회용 (users 캐시)
+    private final UserStatusSyncService userStatusSyncService;
     private final AccessLogService accessLogService;
     private final WebSocketHandler webSocketHandler;
+    private final PresenceProperties presenceProperties;
+    private final SchedulerMetrics schedulerMetrics;
 
+    // [접속 상태의 기준] userId -> 열려 있는 웹소켓 목록. 키가 있으면 온라인.
     private final Map<String, Set<WebSocketSession>> webSocketSessionsMap = new ConcurrentHashMap<>();
 
+    // [USER_UPDATE 묶음 방송] 방송 대기 중인 접속/종료 사용자
+    private final Object presenceLock = new Object();
+    private final Set<String> pendingJoined = new HashSet<>();
+    private final Set<String> pendingLeft = new HashSet<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
     
-    public SessionService(SessionMapper sessionMapper, UserMapper userMapper, UserService userService,
-            JwtTokenProvider jwtTokenProvider, AccessLogService accessLogService, @Lazy WebSocketHandler webSocketHandler) {
+    public SessionService(SessionMapper sessionMapper, UserService userService, UserStatusSyncService userStatusSyncService,
+            JwtTokenProvider jwtTokenProvider, AccessLogService accessLogService, @Lazy WebSocketHandler webSocketHandler,
+            PresenceProperties presenceProperties, SchedulerMetrics schedulerMetrics) {
         this.sessionMapper = sessionMapper;
-        this.userMapper = userMapper;
         this.userService = userService;
+        this.userStatusSyncService = userStatusSyncService;
         this.accessLogService = accessLogService;
         this.webSocketHandler = webSocketHandler;
+        this.presenceProperties = presenceProperties;
+        this.schedulerMetrics = schedulerMetrics;
     }
 
     // NOTE: refreshToken 쿠키 제거로 refresh() 메서드 제거
@@ -81,7 +95,6 @@ public class SessionService {
      * 특정 세션 삭제 (Kick / Logout)
      */
     @Transactional
-    @CacheEvict(value = "online_users", allEntries = true) // [캐시 무효화] 접속자 목록 캐시 삭제
     public void deleteSession(Long targetSessionId, Long currentSessionId, String ipAdress, String userAgent) {
         // 세션 조회
         Session targetSession = sessionMapper.findBySessionId(targetSessionId);
@@ -110,7 +123,6 @@ public class SessionService {
      * 나를 제외한 다른 기기 로그아웃
      */
     @Transactional
-    @CacheEvict(value = "online_users", allEntries = true) // [캐시 무효화] 접속자 목록 캐시 삭제
     public void deleteOtherSessions(String userId, Long currentSessionId) {
         // [수정] WebSocket 강제 종료 호출
         forceDisconnectWebSocketOthers(userId, currentSessionId);
@@ -124,7 +136,6 @@ public class SessionService {
      * 모든 기기 로그아웃
      */
     @Transactional
-    @CacheEvict(value = "online_users", allEntries = true) // [캐시 무효화] 접속자 목록 캐시 삭제
     public void deleteAllSessions(String userId, Long currentSessionId) {
         // [수정] WebSocket 강제 종료 호출
         forceDisconnectWebSocketAll(userId);
@@ -137,52 +148,125 @@ public class SessionService {
 
     /**
      * 현재 접속 중인 사용자 목록 (Online List)
+     * DB 대신 메모리의 웹소켓 목록을 기준으로 판단하고, 이름/권한은 users 캐시에서 가져옵니다.
      */
-    @Cacheable(value = "online_users") // [캐시 적용] 접속자 목록은 1분 동안 DB 조회 없이 캐시된 값 반환
     public List<UserRes> getOnlineUsers() {
-        return userMapper.findOnlineUsers().stream()
-                .map(u -> new UserRes(u.getId(), u.getName(), u.getRole()))
+        Set<String> onlineUserIds = webSocketSessionsMap.keySet();
+        return userService.getUserList().stream()
+                .filter(u -> onlineUserIds.contains(u.getId()))
                 .toList();
     }
 
     public void addSession(String userId, WebSocketSession session) throws JsonProcessingException {
-        // 해당 유저의 세션 목록에 추가
-        webSocketSessionsMap.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(session);
-        // DB Online 처리
-        userService.updateUserStatus(userId, true);
-
-        Map<String, Object> data = new HashMap<>();
-        data.put("type", "USER_UPDATE"); // 타입 명시
-        data.put("onlineUserCount", webSocketSessionsMap.size());
+        // 해당 유저의 세션 목록에 추가 (compute로 원자적으로 처리하여 동시 종료와 경합 방지)
+        boolean[] cameOnline = {false};
+        webSocketSessionsMap.compute(userId, (k, set) -> {
+            Set<WebSocketSession> target = set;
+            if (target == null) {
+                target = ConcurrentHashMap.newKeySet();
+                cameOnline[0] = true;
+            }
+            target.add(session);
+            return target;
+        });
 
-        webSocketHandler.broadcast(data);
+        // 같은 사용자의 추가 탭/기기 연결은 접속자 수에 변화가 없으므로 방송하지 않음
+        if (cameOnline[0]) {
+            // DB Online 처리 (설정 시 비동기 반영)
+            userStatusSyncService.markOnline(userId);
+            queueUserUpdate(userId, true);
+        }
     }
 
     public void removeWebSocket(WebSocketSession session) throws JsonProcessingException {
         String userId = getUserIdFromWebSocketSession(session);
-        if (userId != null) {
-            Set<WebSocketSession> webSocketSessions = webSocketSessionsMap.get(userId);
-            if (webSocketSessions != null) {
-                // 목록에서 제거
-                webSocketSessions.remove(session);
-                // 더 이상 남은 웹소켓이 없으면 오프라인 처리
-                if (webSocketSessions.isEmpty()) {
-                    webSocketSessionsMap.remove(userId);
-                    userService.updateUserStatus(userId, false); // DB Offline 처리
-
-                    Map<String, Object> data = new HashMap<>();
-                    data.put("type", "USER_UPDATE"); // 타입 명시
-                    data.put("onlineUserCount", webSocketSessionsMap.size());
-
-                    webSocketHandler.broadcast(data);
-                    log.warn("{}의 웹 소켓 종료", userId);
-                } else {
-                    //log.warn("removeWebSocket 5");
+        if (userId == null) {
+            return;
+        }
+        // 목록에서 제거하고, 더 이상 남은 웹소켓이 없으면 키 자체를 삭제 (= 오프라인)
+        boolean[] wentOffline = {false};
+        webSocketSessionsMap.computeIfPresent(userId, (k, set) -> {
+            set.remove(session);
+            if (set.isEmpty()) {
+                wentOffline[0] = true;
+                return null;
+            }
+            return set;
+        });
+
+        if (wentOffline[0]) {
+            userStatusSyncService.markOffline(userId); // DB Offline 처리 (설정 시 비동기 반영)
+            queueUserUpdate(userId, false);
+            log.warn("{}의 웹 소켓 종료", userId);
+        }
+    }
+
+    /**
+     * 접속/종료 변경분을 모아두고 broadcast-window-ms 주기로 한 번만 방송
+     * 배포 직후 N명이 재접속해도 USER_UPDATE는 창(window)당 1번만 N개 소켓에 나가므로 O(N²) -> O(N)
+     * 창 안에서 나갔다 다시 들어온 사용자는 서로 상쇄되어 방송에서 빠집니다.
+     */
+    private void queueUserUpdate(String userId, boolean joined) {
+        synchronized (presenceLock) {
+            if (joined) {
+                if (!pendingLeft.remove(userId)) {
+                    pendingJoined.add(userId);
+                }
+            } else {
+                if (!pendingJoined.remove(userId)) {
+                    pendingLeft.add(userId);
                 }
             }
         }
     }
 
+    // 방송 대기 중인 변경분이 있으면 한 번에 방송 (창 크기 = 실행 간격, 실시간 풀)
+    @Scheduled(fixedDelayString = "${app.presence.broadcast-window-ms:250}", scheduler = SchedulingConfig.REALTIME)
+    public void flushUserUpdate() {
+        schedulerMetrics.fixedDelay("user-update", presenceProperties.getBroadcastWindowMs(), this::broadcastUserUpdate);
+    }
+
+    private void broadcastUserUpdate() {
+        List<String> joined;
+        List<String> left;
+        synchronized (presenceLock) {
+            joined = new ArrayList<>(pendingJoined);
+            left = new ArrayList<>(pendingLeft);
+            pendingJoined.clear();
+            pendingLeft.clear();
+        }
+        if (joined.isEmpty() && left.isEmpty()) {
+            return; // 창 안에서 모두 상쇄됨
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("type", "USER_UPDATE"); // 타입 명시
+        data.put("onlineUserCount", webSocketSessionsMap.size()); // 방송 시점의 최신 값
+        data.put("joined", joined);
+        data.put("left", left);
+        try {
+            webSocketHandler.broadcast(data);
+        } catch (JsonProcessingException e) {
+            log.error("USER_UPDATE 방송 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 사용자의 열린 웹소켓 모두에 전송 (할 일 마감 알림 등 개인 알림)
+     * @return 전송한 웹소켓 수 (0이면 접속 중이 아님)
+     */
+    public int sendToUser(String userId, Map<String, Object> message) throws JsonProcessingException {
+        Set<WebSocketSession> webSocketSessions = webSocketSessionsMap.get(userId);
+        if (webSocketSessions == null || webSocketSessions.isEmpty()) {
+            return 0;
+        }
+        TextMessage textMessage = new TextMessage(objectMapper.writeValueAsString(message));
+        for (WebSocketSession webSocket : webSocketSessions) {
+            webSocketHandler.broadcastToTarget(webSocket, textMessage);
+        }
+        return webSocketSessions.size();
+    }
+
     // [1] 특정 기기 하나만 로그아웃
     public void forceDisconnectWebSocket(String userId, Long targetSessionId) {
         Set<WebSocketSession> webSocketSessions = webSocketSessionsMap.get(userId);
@@ -249,7 +333,12 @@ public class SessionService {
      * - 트랜잭션이 커밋된 후에 이벤트를 처리해야 DB에 저장된 세션 정보가 유효함
      * - BEFORE_COMMIT: 커밋 전 실행 (기본값)
      * - AFTER_COMMIT: 커밋 후 실행 (권장)
+     *
+     * @Async 사용 이유:
+     * - 웹소켓 전송을 로그인 요청 스레드에서 떼어내 로그인 응답이 알림 전송을 기다리지 않게 함
+     * - 실행기를 이름으로 지정 (SchedulingConfig.ASYNC): 평소에는 스레드 풀, 가상 스레드 모드에서는 이벤트마다 가상 스레드 하나
      */
+    @org.springframework.scheduling.annotation.Async(SchedulingConfig.ASYNC)
     @org.springframework.transaction.event.TransactionalEventListener(phase = org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT)
     public void handleNewDeviceLoginEvent(NewDeviceLoginEvent event) {
         String userId = event.getUserId();
@@ -4,13 +4,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.domain.user.dto.AccessLogSearchReq;
 import com.example.demo.domain.user.dto.LoginReq;
 import com.example.demo.domain.user.dto.LoginRes;
 import com.example.demo.domain.user.dto.UserRes;
@@ -48,7 +48,6 @@ public class UserService {
      * @return 로그인 결과 (새로운 deviceId 포함)
      */
     @Transactional
-    @CacheEvict(value = "online_users", allEntries = true)
     public LoginRes login(LoginReq loginReq, String userAgent, String ipAddress, String deviceId) {
         // 1. 사용자 확인
         User user = userMapper.findById(loginReq.getId());
@@ -123,9 +122,7 @@ public class UserService {
         // 액세스 토큰 생성
         String accessToken = jwtTokenProvider.createAccessToken(user.getId(), session.getId());
 
-        // 로그 및 상태 업데이트
-        userMapper.updateStatus(user.getId(), true);
-        // 로그 저장
+        // 로그 저장 (접속 상태는 웹소켓 연결 시 SessionService에서 관리)
         accessLogService.saveLog(user.getId(), session.getId(), SecurityConstants.TYPE_LOGIN, ipAddress, null, userAgent, "/api/user/login");
 
         // 새 기기 알림 (신규 세션일 때만 발송)
@@ -143,7 +140,6 @@ public class UserService {
 
     // 로그아웃 처리 (특정 기기)
     @Transactional
-    @CacheEvict(value = "online_users", allEntries = true) // [캐시 무효화] 접속자 목록 캐시 삭제
     public void logout(String userId, Long sessionId, String userAgent, String ipAddress) {
         // 1. DB에서 바로 삭제
         if (sessionId != null) {
@@ -155,7 +151,6 @@ public class UserService {
     
     // 로그아웃 처리 (전체 기기 - 토큰 없이)
     @Transactional
-    @CacheEvict(value = "online_users", allEntries = true)
     public void logoutAll(String userId, String userAgent, String ipAddress) {
         // 1. 사용자의 모든 세션 삭제
         List<Session> sessions = sessionMapper.findByUserId(userId);
@@ -163,12 +158,13 @@ public class UserService {
             sessionMapper.deleteBySessionId(session.getId());
             accessLogService.saveLog(userId, session.getId(), SecurityConstants.TYPE_LOGOUT, ipAddress, null, userAgent, "/api/user/logout");
         }
-        // 2. 상태 업데이트 (오프라인으로)
-        userMapper.updateStatus(userId, false);
+        // 접속 상태는 웹소켓 종료 시 SessionService에서 오프라인 처리됨
     }
 
     // 반환 타입이 List<User> -> List<UserRes>로 변경
-    @Cacheable(value = "users") // [캐시 적용] 전체 유저 목록은 10분 동안 DB 조회 없이 캐시된 값 반환
+    // [캐시 적용] 전체 유저 목록은 10분 동안 DB 조회 없이 캐시된 값 반환
+    // sync = true: 캐시가 로더를 받아 8분이 지나면 백그라운드에서 미리 갱신 (CacheConfig.CacheType.USERS)
+    @Cacheable(value = "users", sync = true)
     public List<UserRes> getUserList() {
         // 1. 창고에서 원본(User)을 다 꺼내옴
         List<User> userEntities = userMapper.findAll();
@@ -185,14 +181,19 @@ public class UserService {
         return result;
     }
 
-    // 상태 업데이트용 메서드 (Controller에서 부를 예정)
-    @CacheEvict(value = "online_users", allEntries = true)
-    public void updateUserStatus(String id, boolean isOnline) {
-        userMapper.updateStatus(id, isOnline);
-    }
-
-    public List<AccessLog> getLogs(String userId) {
-        return userMapper.findLogs(userId);
+    /**
+     * 접속 로그 조회 (키셋 페이지네이션)
+     * 다음 페이지는 응답의 마지막 로그 id를 cursorId로 넘겨 조회합니다.
+     */
+    public List<AccessLog> getLogs(String userId, AccessLogSearchReq req) {
+        req.setUserId(userId); // 보안: 토큰의 userId로 강제 설정
+        Integer size = req.getSize();
+        if (size == null || size <= 0) {
+            req.setSize(AccessLogSearchReq.DEFAULT_SIZE);
+        } else if (size > AccessLogSearchReq.MAX_SIZE) {
+            req.setSize(AccessLogSearchReq.MAX_SIZE);
+        }
+        return userMapper.findLogs(req);
     }
 
     // 간단한 기기 판별 메서드 (UserService 내부에 추가)
@@ -1,20 +1,56 @@
 package com.example.demo.domain.user.service;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.domain.user.dto.UserSettingsDTO;
 import com.example.demo.domain.user.mapper.UserSettingsMapper;
+import com.example.demo.global.config.CacheConfig.CacheType;
+import com.example.demo.global.util.TransactionUtil;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 사용자 설정 서비스
+ * <p>
+ * 설정은 대시보드를 그릴 때마다 읽고 저장은 드물기 때문에 "user_settings" 캐시에 사용자별로 보관합니다.
+ * 저장 시에는 캐시를 비우지 않고 커밋 후 저장한 값으로 바로 교체합니다 (write-through).
+ * 아직 설정이 없는 사용자의 기본값도 캐시에 넣어 매번 DB를 조회하지 않게 합니다.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor
 public class UserSettingsService {
 
     private final UserSettingsMapper userSettingsMapper;
+    private final CacheManager cacheManager;
 
     public UserSettingsDTO getSettings(String userId) {
+        Cache cache = cacheManager.getCache(CacheType.USER_SETTINGS.getCacheName());
+        if (cache == null) {
+            return loadSettings(userId);
+        }
+        // 캐시 미스일 때만 DB 조회 (같은 사용자의 동시 요청은 한 번만 조회)
+        return cache.get(userId, () -> loadSettings(userId));
+    }
+
+    @Transactional
+    public UserSettingsDTO saveSettings(String userId, UserSettingsDTO dto) {
+        dto.setUserId(userId); // 보안: 토큰의 userId로 강제 설정
+        userSettingsMapper.upsertSettings(dto);
+
+        TransactionUtil.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CacheType.USER_SETTINGS.getCacheName());
+            if (cache != null) {
+                cache.put(userId, dto);
+            }
+        });
+        return dto;
+    }
+
+    private UserSettingsDTO loadSettings(String userId) {
         UserSettingsDTO settings = userSettingsMapper.findSettingsByUserId(userId);
         if (settings == null) {
             // 기본값 반환 (아직 설정하지 않은 사용자)
@@ -25,18 +61,4 @@ public class UserSettingsService {
         }
         return settings;
     }
-
-    @Transactional
-    public UserSettingsDTO saveSettings(String userId, UserSettingsDTO dto) {
-        dto.setUserId(userId); // 보안: 토큰의 userId로 강제 설정
-        UserSettingsDTO existing = userSettingsMapper.findSettingsByUserId(userId);
-        
-        if (existing == null) {
-            userSettingsMapper.insertSettings(dto);
-        } else {
-            userSettingsMapper.updateSettings(dto);
-        }
-        
-        return dto;
-    }
 }
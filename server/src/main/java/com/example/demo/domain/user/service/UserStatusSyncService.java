@@ -0,0 +1,78 @@
+package com.example.demo.domain.user.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.domain.user.mapper.UserMapper;
+import com.example.demo.global.config.PresenceProperties;
+import com.example.demo.global.config.SchedulingConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * users.is_online 컬럼 비동기 동기화 (선택 기능)
+ * <p>
+ * 접속 상태의 기준은 SessionService의 메모리(webSocketSessionsMap)이며, DB 컬럼은 외부 조회용 사본입니다.
+ * 연결/종료 시에는 변경분만 메모리에 쌓아두고 주기적으로 한 번에 반영하므로,
+ * 재접속 폭주가 일어나도 사용자당 마지막 상태 1건만 기록됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserStatusSyncService {
+
+    private final UserMapper userMapper;
+    private final PresenceProperties presenceProperties;
+
+    // userId -> 마지막으로 요청된 상태 (같은 사용자의 변경은 덮어써서 합침)
+    private final Map<String, Boolean> pendingStatus = new ConcurrentHashMap<>();
+
+    public void markOnline(String userId) {
+        if (presenceProperties.isPersistToDb()) {
+            pendingStatus.put(userId, true);
+        }
+    }
+
+    public void markOffline(String userId) {
+        if (presenceProperties.isPersistToDb()) {
+            pendingStatus.put(userId, false);
+        }
+    }
+
+    // 서버 재시작 시 이전 프로세스가 남긴 온라인 표시 초기화
+    @EventListener(ApplicationReadyEvent.class)
+    public void resetOnStartup() {
+        if (presenceProperties.isPersistToDb()) {
+            userMapper.resetAllUserStatus();
+        }
+    }
+
+    // 쌓인 변경분을 DB에 반영
+    @Scheduled(fixedDelayString = "${app.presence.flush-interval-ms:5000}", scheduler = SchedulingConfig.MAINTENANCE)
+    public void flush() {
+        if (pendingStatus.isEmpty()) {
+            return;
+        }
+        Iterator<Map.Entry<String, Boolean>> it = pendingStatus.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Boolean> entry = it.next();
+            String userId = entry.getKey();
+            Boolean status = entry.getValue();
+            // 반영 도중 새 상태가 들어왔으면 지우지 않고 다음 주기에 다시 반영
+            pendingStatus.remove(userId, status);
+            try {
+                userMapper.updateStatus(userId, status);
+            } catch (Exception e) {
+                log.warn("접속 상태 DB 반영 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.example.demo.domain.weather.dto;
+import java.io.Serializable;
 import lombok.Data;
 import java.util.List;
 import java.util.Map;
 
 @Data
-public class WeatherRes {
+public class WeatherRes implements Serializable { // 2차 캐시(로컬 파일) 저장용
     private String location;
 
     private Double maxTemp;
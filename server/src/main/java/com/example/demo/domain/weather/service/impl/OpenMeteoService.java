@@ -17,22 +17,36 @@ import org.springframework.web.client.RestClient;
 
 import com.example.demo.domain.weather.dto.WeatherRes;
 import com.example.demo.domain.weather.service.WeatherProvider;
+import com.example.demo.global.metrics.UpstreamMetrics;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
 public class OpenMeteoService implements WeatherProvider {
+    // 좌표는 URI 템플릿 변수로 넘김 (http.client.requests 메트릭의 uri 태그가 좌표마다 늘어나지 않도록)
+    private static final String FORECAST_URL = "https://api.open-meteo.com/v1/forecast?latitude={lat}&longitude={lon}"
+            + "&current=temperature_2m,relative_humidity_2m,apparent_temperature,is_day,weather_code,wind_speed_10m,surface_pressure"
+            + "&hourly=temperature_2m,weather_code,precipitation_probability"
+            + "&daily=weather_code,temperature_2m_max,temperature_2m_min,sunrise,sunset,uv_index_max,precipitation_probability_max"
+            + "&timezone=auto&forecast_days=7";
+    // zoom=10: 시/군/구 레벨, accept-language=ko: 한글 반환
+    private static final String REVERSE_GEOCODE_URL = "https://nominatim.openstreetmap.org/reverse?format=json&lat={lat}"
+            + "&lon={lon}&zoom=10&addressdetails=1&accept-language=ko";
+
     // [수정] RestTemplate을 매번 생성하지 않고 주입받아 사용 (Spring 정석)
     private final RestClient restClient;
+    private final UpstreamMetrics upstreamMetrics; // 외부 API 지연 측정
 
-    public OpenMeteoService(RestClient.Builder builder) {
+    public OpenMeteoService(RestClient.Builder builder, UpstreamMetrics upstreamMetrics) {
         this.restClient = builder.build();
+        this.upstreamMetrics = upstreamMetrics;
     }
 
     @Override
     // [캐시] "weather"라는 이름의 캐시에 저장. lat, lon이 같으면 캐시된 데이터 반환
-    @Cacheable(value = "weather", key = "#lat + '-' + #lon")
+    // sync = true: 같은 좌표 동시 요청은 한 번만 호출하고, 10분이 지나면 백그라운드에서 미리 갱신
+    @Cacheable(value = "weather", key = "#lat + '-' + #lon", sync = true)
     public WeatherRes getWeather(double lat, double lon) {
         // 상세 페이지: 시간별 26개(약 24시간), 주간예보 포함(true)
         return getWeather(lat, lon, 26, true);
@@ -40,7 +54,7 @@ public class OpenMeteoService implements WeatherProvider {
 
     @Override
     // [캐시] "weather"라는 이름의 캐시에 저장. lat, lon이 같으면 캐시된 데이터 반환
-    @Cacheable(value = "weather", key = "#lat + '-' + #lon + '-' + #hourlyLimit + '-' + #includeWeekly")
+    @Cacheable(value = "weather", key = "#lat + '-' + #lon + '-' + #hourlyLimit + '-' + #includeWeekly", sync = true)
     public WeatherRes getWeather(double lat, double lon, int hourlyLimit, boolean includeWeekly) {
         return getWeatherImp(lat, lon, hourlyLimit, includeWeekly);
     }
@@ -50,31 +64,22 @@ public class OpenMeteoService implements WeatherProvider {
         log.info("========== [DB Query] Fetching data! lat: {}, lon: {}, limit: {}, weekly: {} ==========", lat, lon, hourlyLimit, includeWeekly);
 
         // 1. 날씨 데이터 가져오기 (Open-Meteo)
-        String url = "https://api.open-meteo.com/v1/forecast?latitude=" + lat
-                + "&longitude=" + lon
-                + "&current=temperature_2m,relative_humidity_2m,apparent_temperature,is_day,weather_code,wind_speed_10m,surface_pressure"
-                + "&hourly=temperature_2m,weather_code,precipitation_probability"
-                + "&daily=weather_code,temperature_2m_max,temperature_2m_min,sunrise,sunset,uv_index_max,precipitation_probability_max"
-                + "&timezone=auto&forecast_days=7";
-
         Map<String, Object> response = safeCast(
-            restClient.get().uri(url).retrieve().body(Map.class),
+            upstreamMetrics.record(UpstreamMetrics.OPEN_METEO,
+                () -> restClient.get().uri(FORECAST_URL, lat, lon).retrieve().body(Map.class)),
             String.class, Object.class);
 
         // 데이터 파싱 (복잡한 로직은 Service에 숨김)
         WeatherRes res = new WeatherRes();
         // 2. 좌표를 한글 주소로 변환 (Reverse Geocoding - Nominatim)
         try {
-            // zoom=10: 시/군/구 레벨, accept-language=ko: 한글 반환
-            String geoUrl = "https://nominatim.openstreetmap.org/reverse?format=json&lat=" + lat
-                    + "&lon=" + lon + "&zoom=10&addressdetails=1&accept-language=ko";
-
             // User-Agent 헤더 설정 (Nominatim 정책)
-            ResponseEntity<Map<String, Object>> geoResponse = restClient.get()
-                .uri(geoUrl)
-                .headers(h -> h.add("User-Agent", "SpringTutorialApp/1.0"))
-                .retrieve()
-                .toEntity(new ParameterizedTypeReference<Map<String, Object>>() {});
+            ResponseEntity<Map<String, Object>> geoResponse = upstreamMetrics.record(UpstreamMetrics.NOMINATIM,
+                () -> restClient.get()
+                    .uri(REVERSE_GEOCODE_URL, lat, lon)
+                    .headers(h -> h.add("User-Agent", "SpringTutorialApp/1.0"))
+                    .retrieve()
+                    .toEntity(new ParameterizedTypeReference<Map<String, Object>>() {}));
             // [경고 해결] Null Pointer Access 방지
             Map<String, Object> body = geoResponse.getBody();
             Map<String, Object> addressMap;
@@ -0,0 +1,71 @@
+package com.example.demo.global.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 관리 Actuator 엔드포인트 (ADMIN 권한 필요, SecurityConfig 참고)
+ * <ul>
+ *   <li>GET    /actuator/cacheadmin                : 전체 캐시 통계</li>
+ *   <li>GET    /actuator/cacheadmin/{name}         : 캐시 1개 통계 + 키 목록 (최대 100개)</li>
+ *   <li>POST   /actuator/cacheadmin/{name}         : {"maximumMemoryMb": 16, "expireAfterWriteMinutes": 30} 런타임 변경</li>
+ *   <li>DELETE /actuator/cacheadmin/{name}/{key}   : 키 1개 삭제</li>
+ * </ul>
+ * 캐시 전체 비우기는 기본 제공 /actuator/caches/{name} (DELETE)를 사용합니다.
+ */
+@Component
+@Endpoint(id = "cacheadmin")
+@RequiredArgsConstructor
+public class CacheAdminEndpoint {
+
+    private static final int KEY_LIMIT = 100;
+
+    private final CacheAdminService cacheAdminService;
+
+    @ReadOperation
+    public List<CacheStatsRes> caches() {
+        return cacheAdminService.getAllStats();
+    }
+
+    // 없는 캐시면 null -> 404
+    @ReadOperation
+    public Map<String, Object> cache(@Selector String name) {
+        CacheStatsRes stats = cacheAdminService.getStats(name);
+        if (stats == null) {
+            return null;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("stats", stats);
+        result.put("keys", cacheAdminService.getKeys(name, KEY_LIMIT));
+        return result;
+    }
+
+    // 빠진 값은 그대로 둠 (Boot 4는 @Nullable 파라미터를 선택 입력으로 처리)
+    @WriteOperation
+    public CacheStatsRes update(@Selector String name,
+            @Nullable Long maximumMemoryMb, @Nullable Long expireAfterWriteMinutes) {
+        try {
+            return cacheAdminService.updatePolicy(name, maximumMemoryMb, expireAfterWriteMinutes);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage()); // 400
+        }
+    }
+
+    // 삭제했으면 true (없는 캐시/키면 false)
+    @DeleteOperation
+    public boolean evict(@Selector String name, @Selector String key) {
+        return cacheAdminService.evict(name, key);
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.demo.global.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.global.config.CacheConfig.CacheType;
+import com.example.demo.global.config.CacheProperties;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 운영 도구 (조회 / 크기·만료 시간 변경 / 키 단위 삭제)
+ * <p>
+ * 적중률, 제거 수, 로딩 시간을 보고 CacheConfig.CacheType의 크기와 만료 시간을 정할 수 있도록 합니다.
+ * 변경은 Caffeine의 policy()로 실행 중인 캐시에 바로 적용되며 재시작하면 CacheType 값으로 돌아갑니다.
+ * 한도를 늘릴 때도 모든 캐시 한도의 합은 app.cache.max-memory-mb를 넘을 수 없습니다.
+ * (확정된 값은 CacheType에 반영할 것)
+ * </p>
+ * 조회수/적중수 등은 Actuator가 이미 cache.gets 등으로 노출하므로, 여기서는 현재 한도만 게이지로 추가합니다.
+ * <ul>
+ *   <li>cache.max.weight: 바이트 한도 (tag: cache)</li>
+ *   <li>cache.weighted.size: 현재 추정 바이트 (tag: cache)</li>
+ *   <li>cache.expire.after.write: 만료 시간 (초, tag: cache)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class CacheAdminService {
+
+    private static final long MB = 1024L * 1024L;
+
+    private final CacheManager cacheManager;
+    private final CacheProperties cacheProperties;
+
+    public CacheAdminService(CacheManager cacheManager, CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.cacheProperties = cacheProperties;
+        // CacheConfig에서 미리 등록한 캐시만 게이지 등록 (동적 캐시는 생성 시점이 제각각이라 제외)
+        for (CacheType type : CacheType.values()) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(type.getCacheName());
+            if (nativeCache == null) {
+                continue;
+            }
+            Gauge.builder("cache.max.weight", nativeCache, c -> c.policy().eviction()
+                            .map(eviction -> (double) eviction.getMaximum()).orElse(Double.NaN))
+                    .description("캐시 메모리 한도 (런타임 변경 반영)")
+                    .baseUnit("bytes")
+                    .tag("cache", type.getCacheName())
+                    .register(meterRegistry);
+            Gauge.builder("cache.weighted.size", nativeCache, c -> {
+                        Long weightedSize = weightedSize(c);
+                        return weightedSize != null ? weightedSize : Double.NaN;
+                    })
+                    .description("캐시 항목 추정 크기 합계")
+                    .baseUnit("bytes")
+                    .tag("cache", type.getCacheName())
+                    .register(meterRegistry);
+            CaffeineCache caffeineCache = (CaffeineCache) cacheManager.getCache(type.getCacheName());
+            Gauge.builder("cache.expire.after.write", caffeineCache, c -> {
+                        Long seconds = expireAfterWriteSeconds(c);
+                        return seconds != null ? seconds : Double.NaN;
+                    })
+                    .description("캐시 만료 시간 (초, 런타임 변경 반영)")
+                    .baseUnit("seconds")
+                    .tag("cache", type.getCacheName())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<CacheStatsRes> getAllStats() {
+        List<CacheStatsRes> result = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CacheStatsRes stats = getStats(name);
+            if (stats != null) {
+                result.add(stats);
+            }
+        }
+        return result;
+    }
+
+    // 없는 캐시면 null
+    public CacheStatsRes getStats(String name) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(name);
+        if (nativeCache == null) {
+            return null;
+        }
+        Policy<Object, Object> policy = nativeCache.policy();
+        CacheStats stats = nativeCache.stats();
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(name);
+        return new CacheStatsRes(
+                name,
+                nativeCache.estimatedSize(),
+                weightedSize(nativeCache),
+                policy.eviction().map(Policy.Eviction::getMaximum).orElse(null),
+                expireAfterWriteSeconds(cache),
+                refreshAfterWriteSeconds(cache),
+                stats.requestCount(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty() / 1_000_000.0);
+    }
+
+    /**
+     * 실행 중인 캐시의 한도 변경 (null인 값은 그대로)
+     * 만든 적 없는 정책은 켤 수 없습니다 (예: 만료 없이 만든 COMMON_CODE에 만료 시간 설정 불가).
+     *
+     * @return 변경 후 상태 (없는 캐시면 null)
+     * @throws IllegalArgumentException 값이 0 이하이거나, 해당 정책이 없거나, 전체 메모리 예산을 넘는 경우
+     */
+    public synchronized CacheStatsRes updatePolicy(String name, Long maximumMemoryMb, Long expireAfterWriteMinutes) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(name);
+        if (nativeCache == null) {
+            return null;
+        }
+        Policy<Object, Object> policy = nativeCache.policy();
+        if (maximumMemoryMb != null) {
+            if (maximumMemoryMb <= 0) {
+                throw new IllegalArgumentException("maximumMemoryMb는 1 이상이어야 합니다.");
+            }
+            Policy.Eviction<Object, Object> eviction = policy.eviction()
+                    .orElseThrow(() -> new IllegalArgumentException(name + " 캐시는 크기 제한 없이 만들어졌습니다."));
+            long maximumWeight = maximumMemoryMb * MB;
+            long others = totalMaximumWeight() - eviction.getMaximum();
+            long budget = cacheProperties.getMaxMemoryMb() * MB;
+            if (others + maximumWeight > budget) {
+                throw new IllegalArgumentException(String.format(
+                        "전체 캐시 메모리 예산(%dMB)을 넘습니다. %s 캐시에 줄 수 있는 최대값: %dMB",
+                        cacheProperties.getMaxMemoryMb(), name, Math.max(0, (budget - others) / MB)));
+            }
+            eviction.setMaximum(maximumWeight); // 줄이면 넘치는 항목은 바로 제거됨
+        }
+        if (expireAfterWriteMinutes != null) {
+            if (expireAfterWriteMinutes <= 0) {
+                throw new IllegalArgumentException("expireAfterWriteMinutes는 1 이상이어야 합니다.");
+            }
+            Duration ttl = Duration.ofMinutes(expireAfterWriteMinutes);
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TieredCaffeineCache tieredCache) {
+                // 2단 캐시는 항목별 만료 정책이라 이후 쓰기부터 적용 (이미 있는 항목은 기존 만료 시각 유지)
+                if (!tieredCache.setTimeToLive(ttl)) {
+                    throw new IllegalArgumentException(name + " 캐시는 만료 시간 없이 만들어졌습니다.");
+                }
+            } else {
+                Policy.FixedExpiration<Object, Object> expiration = policy.expireAfterWrite()
+                        .orElseThrow(() -> new IllegalArgumentException(name + " 캐시는 만료 시간 없이 만들어졌습니다."));
+                expiration.setExpiresAfter(ttl);
+            }
+        }
+        log.info("[캐시 설정 변경] cache={}, maximumMemoryMb={}, expireAfterWriteMinutes={}",
+                name, maximumMemoryMb, expireAfterWriteMinutes);
+        return getStats(name);
+    }
+
+    /**
+     * 키 1개 삭제
+     * 키는 문자열로 받으므로, 같은 문자열 키가 없으면 toString()이 같은 키를 찾습니다
+     * (예: 파라미터 없는 @Cacheable("users")의 키는 "SimpleKey []").
+     *
+     * @return 삭제했으면 true (없는 캐시/키면 false)
+     */
+    public boolean evict(String name, String key) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(name);
+        if (nativeCache == null) {
+            return false;
+        }
+        Map<Object, Object> map = nativeCache.asMap();
+        if (map.remove(key) != null) {
+            log.info("[캐시 삭제] cache={}, key={}", name, key);
+            return true;
+        }
+        for (Object candidate : map.keySet()) {
+            if (Objects.equals(String.valueOf(candidate), key) && map.remove(candidate) != null) {
+                log.info("[캐시 삭제] cache={}, key={}", name, key);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 현재 키 목록 (최대 limit개, 삭제할 키 확인용)
+    public List<String> getKeys(String name, int limit) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(name);
+        if (nativeCache == null) {
+            return null;
+        }
+        return nativeCache.asMap().keySet().stream().limit(limit).map(String::valueOf).toList();
+    }
+
+    // 만료 없는 캐시면 null (2단 캐시는 항목별 만료 정책이라 따로 읽음)
+    private static Long expireAfterWriteSeconds(CaffeineCache cache) {
+        if (cache instanceof TieredCaffeineCache tieredCache) {
+            Duration ttl = tieredCache.getTimeToLive();
+            return ttl != null ? ttl.toSeconds() : null;
+        }
+        return cache.getNativeCache().policy().expireAfterWrite()
+                .map(expiration -> expiration.getExpiresAfter(TimeUnit.SECONDS))
+                .orElse(null);
+    }
+
+    // 미리 갱신하지 않는 캐시면 null
+    private static Long refreshAfterWriteSeconds(CaffeineCache cache) {
+        if (cache instanceof RefreshAheadCaffeineCache refreshCache && refreshCache.getRefreshAfterWrite() != null) {
+            return refreshCache.getRefreshAfterWrite().toSeconds();
+        }
+        return null;
+    }
+
+    // 무게 기준 캐시가 아니면 null
+    private static Long weightedSize(com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache) {
+        return nativeCache.policy().eviction()
+                .filter(eviction -> eviction.weightedSize().isPresent())
+                .map(eviction -> eviction.weightedSize().getAsLong())
+                .orElse(null);
+    }
+
+    // 현재 모든 캐시의 바이트 한도 합 (동적 캐시 포함)
+    private long totalMaximumWeight() {
+        long total = 0;
+        for (String cacheName : cacheManager.getCacheNames()) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = nativeCache(cacheName);
+            if (cache != null) {
+                total += cache.policy().eviction().map(Policy.Eviction::getMaximum).orElse(0L);
+            }
+        }
+        return total;
+    }
+
+    // getCache는 없는 이름이면 기본 설정으로 새 캐시를 만들어버리므로 등록된 이름인지 먼저 확인
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String name) {
+        if (name == null || !cacheManager.getCacheNames().contains(name)) {
+            return null;
+        }
+        Cache cache = cacheManager.getCache(name);
+        return (cache instanceof CaffeineCache caffeineCache) ? caffeineCache.getNativeCache() : null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시 1개의 현재 설정과 누적 통계 (recordStats 기준, 서버 기동 후 누적)
+ * - weightedSizeBytes: 현재 항목들의 추정 바이트 합 (CacheWeigher)
+ * - maximumWeightBytes / expireAfterWriteSeconds: 현재 적용 중인 한도 (null이면 제한 없음)
+ * - refreshAfterWriteSeconds: 이 시간이 지난 항목은 조회 시 백그라운드에서 미리 갱신 (null이면 사용 안 함)
+ * - averageLoadPenaltyMs: 캐시 미스 때 값을 만들어 넣는 데 걸린 평균 시간
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStatsRes {
+    private String name;
+    private long estimatedSize;
+    private Long weightedSizeBytes;
+    private Long maximumWeightBytes;
+    private Long expireAfterWriteSeconds;
+    private Long refreshAfterWriteSeconds;
+    private long requestCount;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long loadCount;
+    private long loadFailureCount;
+    private double averageLoadPenaltyMs;
+}
@@ -0,0 +1,199 @@
+package com.example.demo.global.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * 캐시 항목 무게 = 힙에서 차지하는 바이트 추정치 (키 + 값 + 캐시 노드)
+ * <p>
+ * 값의 객체 그래프를 한 번 훑어서 64비트 JVM(압축 참조) 기준 크기를 더합니다.
+ * 정확한 측정이 아니라 "메모 목록 하나가 수 MB"인 경우를 잡아내는 용도라서 자주 쓰는 타입만 따로 계산합니다.
+ * </p>
+ * <ul>
+ *   <li>String, 박싱 타입, java.time, 배열, Collection, Map: 실제 JDK 구현 크기에 가깝게</li>
+ *   <li>우리 DTO/엔티티: 필드를 리플렉션으로 따라감 (클래스별 필드 목록은 한 번만 조회)</li>
+ *   <li>그 밖의 JDK 내부 타입: 고정값</li>
+ * </ul>
+ * 같은 객체를 여러 번 참조하면 한 번만 셉니다. 쓰기(put/compute) 때만 호출되므로 조회 비용은 없습니다.
+ */
+public final class CacheWeigher implements Weigher<Object, Object> {
+
+    public static final CacheWeigher INSTANCE = new CacheWeigher();
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ENTRY_OVERHEAD = 64;     // Caffeine 노드 + ConcurrentHashMap 엔트리
+    private static final int UNKNOWN_OBJECT = 64;     // 따라가지 않는 JDK 내부 객체
+    private static final int MAX_VISITS = 200_000;    // 비정상적으로 큰 그래프에서 계산 시간 제한
+
+    // 클래스별 (얕은 크기, 따라갈 참조 필드)
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return Layout.of(type);
+        }
+    };
+
+    private CacheWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = ENTRY_OVERHEAD + estimate(key) + estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    /**
+     * 객체 그래프 크기 추정 (바이트)
+     */
+    public static long estimate(Object root) {
+        if (root == null) {
+            return 0;
+        }
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long total = 0;
+        int visits = 0;
+
+        while (!pending.isEmpty() && visits++ < MAX_VISITS) {
+            Object object = pending.pop();
+            if (object == null || !visited.add(object)) {
+                continue;
+            }
+            Class<?> type = object.getClass();
+
+            if (object instanceof String string) {
+                total += stringSize(string);
+            } else if (object instanceof Enum<?> || object instanceof Class<?>) {
+                // 공유되는 싱글턴이므로 세지 않음
+            } else if (object instanceof Long || object instanceof Double) {
+                total += 24;
+            } else if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+                total += 16;
+            } else if (type.getName().startsWith("java.time.")) {
+                total += 72; // LocalDateTime = LocalDate + LocalTime 포함
+            } else if (type.isArray()) {
+                total += arraySize(object, pending);
+            } else if (object instanceof Collection<?> collection) {
+                // ArrayList/HashSet 등: 객체 + 내부 배열 (HashSet은 내부 HashMap 노드까지 대략 포함)
+                total += align(OBJECT_HEADER + 16) + align(ARRAY_HEADER + (long) REFERENCE * collection.size());
+                if (collection instanceof Set<?>) {
+                    total += 32L * collection.size();
+                }
+                for (Object element : collection) {
+                    pending.push(element);
+                }
+            } else if (object instanceof Map<?, ?> map) {
+                // HashMap/LinkedHashMap: 객체 + 테이블 + 노드(32~40바이트)
+                total += align(OBJECT_HEADER + 40) + align(ARRAY_HEADER + (long) REFERENCE * map.size() * 4 / 3)
+                        + 40L * map.size();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    pending.push(entry.getKey());
+                    pending.push(entry.getValue());
+                }
+            } else {
+                Layout layout = LAYOUTS.get(type);
+                total += layout.shallowSize;
+                for (Field field : layout.references) {
+                    try {
+                        pending.push(field.get(object));
+                    } catch (IllegalAccessException e) {
+                        // 접근 불가 필드는 건너뜀 (참조 크기는 shallowSize에 이미 포함)
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    private static long stringSize(String string) {
+        boolean latin1 = true;
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                latin1 = false; // 한글 등이 있으면 UTF-16 (글자당 2바이트)
+                break;
+            }
+        }
+        return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + (long) string.length() * (latin1 ? 1 : 2));
+    }
+
+    private static long arraySize(Object array, Deque<Object> pending) {
+        int length = Array.getLength(array);
+        Class<?> component = array.getClass().getComponentType();
+        if (!component.isPrimitive()) {
+            for (Object element : (Object[]) array) {
+                pending.push(element);
+            }
+            return align(ARRAY_HEADER + (long) REFERENCE * length);
+        }
+        return align(ARRAY_HEADER + (long) primitiveSize(component) * length);
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1; // byte, boolean
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    // 클래스 1개의 필드 배치 (상위 클래스 필드 포함)
+    private static final class Layout {
+        final long shallowSize;
+        final Field[] references;
+
+        private Layout(long shallowSize, Field[] references) {
+            this.shallowSize = shallowSize;
+            this.references = references;
+        }
+
+        static Layout of(Class<?> type) {
+            // JDK 내부 클래스는 모듈 접근 제한으로 필드를 읽을 수 없으므로 고정값
+            if (type.getName().startsWith("java.") || type.getName().startsWith("jdk.")
+                    || type.getName().startsWith("sun.")) {
+                return new Layout(UNKNOWN_OBJECT, new Field[0]);
+            }
+            long size = OBJECT_HEADER;
+            List<Field> references = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (field.getType().isPrimitive()) {
+                        size += primitiveSize(field.getType());
+                        continue;
+                    }
+                    size += REFERENCE;
+                    if (field.trySetAccessible()) {
+                        references.add(field);
+                    }
+                }
+            }
+            return new Layout(align(size), references.toArray(new Field[0]));
+        }
+    }
+}
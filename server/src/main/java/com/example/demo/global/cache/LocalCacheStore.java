@@ -0,0 +1,163 @@
+package com.example.demo.global.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 2차 저장소 (로컬 파일, H2 MVStore)
+ * <p>
+ * 캐시 이름마다 MVMap 1개에 "키 문자열 -> 직렬화된 (키, 값, 만료 시각)"을 저장합니다.
+ * 쓰기는 메모리에 먼저 반영되고 MVStore가 약 1초마다 파일에 모아서 씁니다 (종료 시에는 close에서 모두 기록).
+ * 값은 Java 직렬화를 사용하므로 캐시에 넣는 DTO는 Serializable이어야 하며, 아니면 이 저장소에는 넣지 않습니다.
+ * 읽을 때는 우리 패키지와 JDK 기본 타입만 역직렬화하도록 필터를 겁니다.
+ * </p>
+ */
+@Slf4j
+public final class LocalCacheStore implements AutoCloseable {
+
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private static final String MAP_PREFIX = "cache:";
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=64;com.example.demo.**;java.lang.*;java.util.*;java.time.*;java.math.*;"
+                    + "org.springframework.cache.interceptor.SimpleKey;org.springframework.cache.support.NullValue;!*");
+
+    private final MVStore store;
+
+    public LocalCacheStore(String path) throws IOException {
+        Path file = Path.of(path).toAbsolutePath();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.store = new MVStore.Builder().fileName(file.toString()).compress().open();
+    }
+
+    /**
+     * 만료되지 않은 항목 (없거나 읽을 수 없으면 null, 만료된 항목은 지움)
+     */
+    public StoredEntry get(String cacheName, Object key) {
+        MVMap<String, byte[]> map = map(cacheName);
+        String storeKey = storeKey(key);
+        byte[] bytes = map.get(storeKey);
+        if (bytes == null) {
+            return null;
+        }
+        StoredEntry entry = deserialize(bytes);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            map.remove(storeKey);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 저장 (직렬화할 수 없는 값이면 기존 항목만 지우고 false)
+     */
+    public boolean put(String cacheName, Object key, Object value, long expiresAtMs) {
+        byte[] bytes = serialize(new StoredEntry(key, value, expiresAtMs));
+        if (bytes == null) {
+            map(cacheName).remove(storeKey(key));
+            return false;
+        }
+        map(cacheName).put(storeKey(key), bytes);
+        return true;
+    }
+
+    public void remove(String cacheName, Object key) {
+        map(cacheName).remove(storeKey(key));
+    }
+
+    public void clear(String cacheName) {
+        map(cacheName).clear();
+    }
+
+    /**
+     * 만료되지 않은 모든 항목 (서버 기동 시 1차 캐시 복원용, 만료되었거나 읽을 수 없는 항목은 지움)
+     */
+    public void forEach(String cacheName, BiConsumer<Object, StoredEntry> action) {
+        MVMap<String, byte[]> map = map(cacheName);
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, byte[]> stored : map.entrySet()) {
+            StoredEntry entry = deserialize(stored.getValue());
+            if (entry == null || entry.isExpired(now)) {
+                map.remove(stored.getKey());
+                continue;
+            }
+            action.accept(entry.key(), entry);
+        }
+    }
+
+    /**
+     * 주어진 캐시 외의 저장분을 모두 삭제 (persistent를 끈 캐시의 예전 항목이 파일에 남지 않도록)
+     */
+    public void retainOnly(Set<String> cacheNames) {
+        for (String mapName : Set.copyOf(store.getMapNames())) {
+            if (mapName.startsWith(MAP_PREFIX) && !cacheNames.contains(mapName.substring(MAP_PREFIX.length()))) {
+                store.removeMap(mapName);
+                log.info("[캐시 2차 삭제] cache={} (persistent 아님)", mapName.substring(MAP_PREFIX.length()));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        store.close(); // 아직 파일에 쓰지 않은 변경 기록
+    }
+
+    private MVMap<String, byte[]> map(String cacheName) {
+        return store.openMap(MAP_PREFIX + cacheName);
+    }
+
+    // 키 타입이 달라도 toString이 같을 수 있어 타입 이름을 붙임 (예: SimpleKey [])
+    private static String storeKey(Object key) {
+        return key.getClass().getName() + ":" + key;
+    }
+
+    private static byte[] serialize(StoredEntry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entry);
+        } catch (IOException e) {
+            // NotSerializableException 등: 이 값은 1차 캐시에만 둠
+            log.debug("[캐시 2차 저장 생략] key={}, error={}", entry.key(), e.toString());
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    private static StoredEntry deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(FILTER);
+            return (StoredEntry) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            // 클래스 구조가 바뀌어 읽을 수 없는 예전 항목 등
+            log.debug("[캐시 2차 항목 무시] error={}", e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * 저장 항목 (value는 Spring 캐시가 내부에 저장하는 형태 그대로, null은 NullValue)
+     * @param expiresAtMs 만료 시각 (epoch ms, 만료 없음은 NO_EXPIRY)
+     */
+    public record StoredEntry(Object key, Object value, long expiresAtMs) implements Serializable {
+        boolean isExpired(long nowMs) {
+            return expiresAtMs <= nowMs;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.global.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 전에 미리 다시 읽는 캐시 (refresh-ahead)
+ * <p>
+ * 저장된 지 refreshAfterWrite가 지난 항목이 조회되면, 기존 값을 그대로 반환하고
+ * 같은 로더를 별도 실행기(executor)에서 돌려 새 값으로 교체합니다.
+ * 자주 읽히는 키는 만료되기 전에 계속 새 값으로 바뀌므로, 요청 스레드가 만료 직후 DB/외부 API를 기다리는 일이 없습니다.
+ * 한동안 읽히지 않은 키는 갱신하지 않고 원래대로 만료됩니다.
+ * </p>
+ * <ul>
+ *   <li>로더는 get(key, Callable)로 받은 것을 사용합니다. 따라서 @Cacheable은 sync = true로 선언해야 갱신됩니다.</li>
+ *   <li>같은 키의 갱신은 한 번에 하나만 실행합니다.</li>
+ *   <li>갱신 중에 다른 쓰기(write-through, 삭제)가 있었으면 그 값을 덮어쓰지 않습니다.</li>
+ *   <li>갱신이 실패하면 기존 값을 유지하고, 만료되면 다음 조회가 평소처럼 직접 읽습니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class RefreshAheadCaffeineCache extends CaffeineCache {
+
+    private final Duration refreshAfterWrite; // null이면 미리 갱신하지 않음
+    private final Executor refreshExecutor;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet(); // 갱신 중인 키
+
+    public RefreshAheadCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues,
+            Duration refreshAfterWrite, Executor refreshExecutor) {
+        super(name, cache, allowNullValues);
+        this.refreshAfterWrite = refreshExecutor != null ? refreshAfterWrite : null;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * 미리 갱신 시점 (사용 안 하면 null)
+     */
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    /**
+     * 만료 시간 (만료 없는 캐시면 null)
+     */
+    public Duration getTimeToLive() {
+        return getNativeCache().policy().expireAfterWrite()
+                .map(Policy.FixedExpiration::getExpiresAfter)
+                .orElse(null);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        T value = super.get(key, valueLoader);
+        refreshIfStale(key, valueLoader);
+        return value;
+    }
+
+    /**
+     * 저장된 지 refreshAfterWrite가 지났으면 백그라운드에서 다시 읽음 (호출한 스레드는 기다리지 않음)
+     */
+    protected void refreshIfStale(Object key, Callable<?> valueLoader) {
+        if (refreshAfterWrite == null) {
+            return;
+        }
+        Object current = getNativeCache().policy().getIfPresentQuietly(key);
+        if (current == null) {
+            return;
+        }
+        Duration age = ageOf(key);
+        if (age == null || age.compareTo(refreshAfterWrite) < 0 || !refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> reload(key, current, valueLoader));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이거나 실행기가 가득 참: 이번 갱신은 건너뜀 (기존 값은 그대로 만료)
+            refreshing.remove(key);
+        }
+    }
+
+    private void reload(Object key, Object expected, Callable<?> valueLoader) {
+        try {
+            Object loaded = valueLoader.call();
+            // 읽는 동안 값이 바뀌었거나 지워졌으면 교체하지 않음 (더 최신 쓰기를 덮어쓰지 않도록)
+            if (getNativeCache().asMap().replace(key, expected, toStoreValue(loaded))) {
+                log.debug("[캐시 미리 갱신] cache={}, key={}", getName(), key);
+            }
+        } catch (Exception e) {
+            log.warn("[캐시 미리 갱신 실패] cache={}, key={}, error={}", getName(), key, e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    // 저장(또는 마지막 교체) 후 지난 시간 (알 수 없으면 null)
+    private Duration ageOf(Object key) {
+        Policy<Object, Object> policy = getNativeCache().policy();
+        Optional<Policy.FixedExpiration<Object, Object>> fixed = policy.expireAfterWrite();
+        if (fixed.isPresent()) {
+            return fixed.get().ageOf(key).orElse(null);
+        }
+        // 항목별 만료 정책: 남은 시간으로 역산 (쓰기마다 TTL로 다시 시작하므로 age = TTL - 남은 시간)
+        Duration ttl = getTimeToLive();
+        if (ttl == null) {
+            return null;
+        }
+        return policy.expireVariably()
+                .flatMap(expiration -> expiration.getExpiresAfter(key))
+                .map(ttl::minus)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.global.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단 캐시: Caffeine(1차, 힙) + LocalCacheStore(2차, 로컬 파일)
+ * <p>
+ * CaffeineCache를 상속하므로 서비스의 "instanceof CaffeineCache" 분기와 getNativeCache()는 그대로 동작합니다.
+ * 미리 갱신(refresh-ahead)은 RefreshAheadCaffeineCache 그대로이며, 갱신된 값은 아래 리스너로 2차에도 반영됩니다.
+ * </p>
+ * <ul>
+ *   <li>생성 시: 2차 저장소의 만료되지 않은 항목을 남은 만료 시간 그대로 1차에 복원 (재시작 후 바로 warm)</li>
+ *   <li>조회: 1차 미스면 2차에서 읽어 1차에 남은 시간으로 넣고 반환 (read-through)</li>
+ *   <li>put/evict/clear: 1차와 2차에 함께 반영</li>
+ *   <li>네이티브 맵을 직접 고치는 경우 (서비스의 computeIfPresent write-through, 관리 도구의 키 삭제):
+ *       RemovalListener로 변경을 받아 1차의 현재 값을 2차에 다시 씀</li>
+ * </ul>
+ * 1차에서 크기 초과로 밀려난 항목(SIZE)은 2차에 남겨 두어 다음 조회 때 다시 읽습니다.
+ * 만료 시각은 2차에 절대 시각으로 저장하므로 재시작해도 원래 TTL을 넘겨 살아남지 않습니다.
+ */
+@Slf4j
+public class TieredCaffeineCache extends RefreshAheadCaffeineCache {
+
+    private final LocalCacheStore store;
+    private final WriteExpiry expiry; // 만료 없는 캐시면 null
+
+    public TieredCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues,
+            LocalCacheStore store, Binding binding, Duration refreshAfterWrite, Executor refreshExecutor) {
+        super(name, cache, allowNullValues, refreshAfterWrite, refreshExecutor);
+        this.store = store;
+        this.expiry = binding.expiry;
+        binding.cache = this;
+        restoreAll();
+    }
+
+    // 항목별 만료 정책을 쓰므로 빌더의 expireAfterWrite 대신 WriteExpiry에서 읽음
+    @Override
+    public Duration getTimeToLive() {
+        return expiry != null ? expiry.getTimeToLive() : null;
+    }
+
+    // 실행 중 만료 시간 변경 (이후 쓰기부터 적용)
+    public boolean setTimeToLive(Duration ttl) {
+        if (expiry == null) {
+            return false;
+        }
+        expiry.setTimeToLive(ttl);
+        return true;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        return value != null ? value : restore(key);
+    }
+
+    // 1차는 통계 없이 확인하고 적중/미스는 super.get에서 한 번만 기록 (2차에서 복원된 값은 적중으로 집계)
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean load = getNativeCache().policy().getIfPresentQuietly(key) == null && restore(key) == null;
+        T value = super.get(key, valueLoader);
+        if (load) {
+            writeThrough(key);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        writeThrough(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            writeThrough(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        store.remove(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        store.remove(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        store.clear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        store.clear(getName());
+        return invalidated;
+    }
+
+    /**
+     * 1차의 현재 값을 2차에 씀 (1차에 없으면 2차에서도 지움)
+     * 값 대신 키만 받아 현재 값을 다시 읽으므로, 리스너가 늦게 돌아도 오래된 값으로 덮어쓰지 않습니다.
+     */
+    void writeThrough(Object key) {
+        Cache<Object, Object> nativeCache = getNativeCache();
+        Object value = nativeCache.policy().getIfPresentQuietly(key);
+        if (value == null) {
+            store.remove(getName(), key);
+            return;
+        }
+        long expiresAtMs = LocalCacheStore.NO_EXPIRY;
+        if (expiry != null) {
+            Duration remaining = nativeCache.policy().expireVariably()
+                    .flatMap(expiration -> expiration.getExpiresAfter(key))
+                    .orElse(expiry.getTimeToLive());
+            expiresAtMs = System.currentTimeMillis() + remaining.toMillis();
+        }
+        store.put(getName(), key, value, expiresAtMs);
+    }
+
+    // 2차 -> 1차 (남은 만료 시간 유지)
+    private Object restore(Object key) {
+        LocalCacheStore.StoredEntry entry = store.get(getName(), key);
+        if (entry == null) {
+            return null;
+        }
+        putLocal(key, entry);
+        return entry.value();
+    }
+
+    private void restoreAll() {
+        int[] restored = {0};
+        store.forEach(getName(), (key, entry) -> {
+            putLocal(key, entry);
+            restored[0]++;
+        });
+        if (restored[0] > 0) {
+            log.info("[캐시 복원] cache={}, {}건 (2차 저장소)", getName(), restored[0]);
+        }
+    }
+
+    private void putLocal(Object key, LocalCacheStore.StoredEntry entry) {
+        Cache<Object, Object> nativeCache = getNativeCache();
+        Policy.VarExpiration<Object, Object> variable = nativeCache.policy().expireVariably().orElse(null);
+        if (variable != null && entry.expiresAtMs() != LocalCacheStore.NO_EXPIRY) {
+            long remainingMs = entry.expiresAtMs() - System.currentTimeMillis();
+            if (remainingMs > 0) {
+                variable.putIfAbsent(key, entry.value(), Duration.ofMillis(remainingMs));
+            }
+        } else {
+            nativeCache.asMap().putIfAbsent(key, entry.value());
+        }
+    }
+
+    /**
+     * Caffeine 빌더에 먼저 등록하고 캐시 생성 후 연결하는 리스너 (빌드 전에는 캐시 객체가 없으므로)
+     */
+    public static final class Binding implements RemovalListener<Object, Object> {
+
+        private final WriteExpiry expiry;
+        private volatile TieredCaffeineCache cache;
+
+        public Binding(WriteExpiry expiry) {
+            this.expiry = expiry;
+        }
+
+        @Override
+        public void onRemoval(Object key, Object value, RemovalCause cause) {
+            TieredCaffeineCache target = cache;
+            // SIZE/COLLECTED: 1차에서만 밀려난 것이므로 2차는 유지
+            if (target == null || key == null || cause == RemovalCause.SIZE || cause == RemovalCause.COLLECTED) {
+                return;
+            }
+            try {
+                target.writeThrough(key); // REPLACED면 새 값 기록, EXPLICIT/EXPIRED면 삭제
+            } catch (RuntimeException e) {
+                log.warn("[캐시 2차 반영 실패] cache={}, key={}, error={}", target.getName(), key, e.getMessage());
+            }
+        }
+    }
+}
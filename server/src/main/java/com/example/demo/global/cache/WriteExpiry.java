@@ -0,0 +1,46 @@
+package com.example.demo.global.cache;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * expireAfterWrite와 같은 동작의 항목별 만료 정책
+ * <p>
+ * 2차 저장소에서 복원한 항목은 "남은 시간"으로 넣어야 재시작 전과 같은 시각에 만료되는데,
+ * 고정 expireAfterWrite로 만든 캐시는 항목별 시간을 줄 수 없어서 이 정책을 사용합니다
+ * (복원 시 policy().expireVariably().put(key, value, 남은 시간)).
+ * 만료 시간은 실행 중에 바꿀 수 있으며 이후 쓰기부터 적용됩니다.
+ * </p>
+ */
+public final class WriteExpiry implements Expiry<Object, Object> {
+
+    private volatile long ttlNanos;
+
+    public WriteExpiry(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Duration getTimeToLive() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    public void setTimeToLive(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return ttlNanos; // 쓰기마다 처음부터 다시 (expireAfterWrite와 동일)
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration; // 읽기는 만료 시각에 영향 없음
+    }
+}
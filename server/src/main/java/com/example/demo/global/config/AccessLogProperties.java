@@ -0,0 +1,16 @@
+package com.example.demo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.access-log") // yml의 app.access-log 밑에 있는 걸 가져옴
+public class AccessLogProperties {
+    private boolean retentionEnabled = true; // 보관 정책 사용 여부
+    private int retentionDays = 90;          // 원본 로그 보관 기간 (일)
+    private int batchSize = 1000;            // 한 트랜잭션에서 삭제할 최대 건수 (테이블 잠금 최소화)
+}
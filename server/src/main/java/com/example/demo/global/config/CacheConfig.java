@@ -1,8 +1,17 @@
 package com.example.demo.global.config;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -10,37 +19,127 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 // [중요] 이 Import들이 없으면 오류가 납니다.
+import com.example.demo.global.cache.CacheWeigher;
+import com.example.demo.global.cache.LocalCacheStore;
+import com.example.demo.global.cache.RefreshAheadCaffeineCache;
+import com.example.demo.global.cache.TieredCaffeineCache;
+import com.example.demo.global.cache.WriteExpiry;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 설정 (Caffeine)
+ * <p>
+ * 캐시 한도는 항목 개수가 아니라 바이트입니다. 메모 캐시 1개 항목은 사용자의 메모 목록 전체,
+ * 날씨 1개 항목은 중첩 Map으로 된 7일 예보라서 개수로는 힙 사용량을 알 수 없기 때문입니다.
+ * 항목 무게는 CacheWeigher가 객체 그래프를 훑어 추정하고, 한도를 넘으면 Caffeine이 덜 쓰인 항목부터 제거합니다.
+ * </p>
+ * 모든 캐시 한도의 합은 app.cache.max-memory-mb를 넘지 않습니다 (넘으면 비율대로 줄여서 적용).
+ * 따라서 아주 큰 메모 목록 몇 개가 들어와도 캐시 전체가 이 한도 이상 힙을 차지하지 않습니다.
+ * <p>
+ * app.cache.l2-enabled=true이면 persistent로 표시한 캐시는 로컬 파일(2차)에도 저장되어,
+ * 재시작 직후에도 날씨/사용자 목록 캐시가 남은 만료 시간 그대로 복원됩니다 (TieredCaffeineCache 참고).
+ * 파일은 평문 Java 직렬화이므로 메모/할 일/사용자 설정(API 키)처럼 사용자 개인 데이터를 담는 캐시는 persistent로 두지 않습니다.
+ * </p>
+ * <p>
+ * refreshAfterWrite를 지정한 캐시는 만료 전에 자주 읽히는 항목을 지정한 실행기에서 미리 다시 읽습니다
+ * (RefreshAheadCaffeineCache 참고). Caffeine의 refreshAfterWrite는 CacheLoader가 있어야 하는데 {@code @Cacheable}
+ * 캐시에는 로더가 없으므로, {@code @Cacheable(sync = true)}가 넘겨주는 로더로 Spring 캐시 계층에서 갱신합니다.
+ * </p>
+ */
+@Slf4j
 @Configuration
 @EnableCaching // 캐시 기능 활성화
 public class CacheConfig {
 
+    private static final long MB = 1024L * 1024L;
+
+    // 2차 캐시 저장소 (app.cache.l2-enabled=true일 때만, 종료 시 close로 파일에 기록)
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache", name = "l2-enabled", havingValue = "true")
+    public LocalCacheStore localCacheStore(CacheProperties cacheProperties) throws IOException {
+        return new LocalCacheStore(cacheProperties.getL2Path());
+    }
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheProperties cacheProperties, ObjectProvider<LocalCacheStore> localCacheStore,
+            BeanFactory beanFactory) {
+        LocalCacheStore store = localCacheStore.getIfAvailable();
+        Map<String, TieredCaffeineCache.Binding> tiered = new HashMap<>();
+        Map<String, CacheType> types = new HashMap<>();
+        for (CacheType type : CacheType.values()) {
+            types.put(type.getCacheName(), type);
+        }
+
         // 1. 동적 캐시 생성을 지원하는 매니저 생성
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // persistent 캐시는 1차(Caffeine) + 2차(로컬 파일) 2단 캐시로 감싸고,
+        // refreshAfterWrite가 있는 캐시는 지정한 실행기에서 미리 갱신하도록 감쌈
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                CacheType type = types.get(name);
+                TieredCaffeineCache.Binding binding = tiered.get(name);
+                Duration refreshAfterWrite = null;
+                Executor refreshExecutor = null;
+                if (type != null && type.getRefreshAfterWrite() > 0) {
+                    refreshAfterWrite = Duration.ofSeconds(type.getRefreshAfterWrite());
+                    refreshExecutor = beanFactory.getBean(type.getRefreshExecutor(), Executor.class);
+                }
+                if (binding != null) {
+                    return new TieredCaffeineCache(name, cache, isAllowNullValues(), store, binding,
+                            refreshAfterWrite, refreshExecutor);
+                }
+                if (refreshExecutor != null) {
+                    return new RefreshAheadCaffeineCache(name, cache, isAllowNullValues(), refreshAfterWrite, refreshExecutor);
+                }
+                return super.adaptCaffeineCache(name, cache);
+            }
+        };
 
         Caffeine<Object, Object> defaultCaffeine = Caffeine.newBuilder()
+                .recordStats() // 동적으로 만들어진 캐시도 적중률 확인 가능하도록
                 .expireAfterWrite(5, TimeUnit.MINUTES) // 기본 5분
-                .maximumSize(50);  // 기본 50개
+                .weigher(CacheWeigher.INSTANCE)
+                .maximumWeight(cacheProperties.getDynamicCacheMemoryMb() * MB); // 기본 1MB
         // 2. [Default 설정] Enum에 정의되지 않은 이름이 들어오면 이 설정을 따름 (switch의 default 역할)
         // Objects.requireNonNull을 사용하여 @NonNull 타입으로 변환
         cacheManager.setCaffeine(Objects.requireNonNull(defaultCaffeine));
 
         // 3. [Specific 설정] Enum 반복
+        // 한도의 합이 전체 예산을 넘으면 모든 캐시를 같은 비율로 줄임
+        double scale = budgetScale(cacheProperties.getMaxMemoryMb());
+        // recordStats()로 모은 통계는 Actuator가 기동 시 등록된 캐시마다 cache.gets / cache.puts / cache.evictions 등으로
+        // 노출합니다 (/actuator/metrics/cache.gets?tag=cache:weather, /actuator/prometheus)
         for (CacheType type : CacheType.values()) {
             
             // 빌더 생성 (공통 설정)
             Caffeine<Object, Object> builder = Caffeine.newBuilder()
                     .recordStats()
-                    .maximumSize(type.getMaximumSize()); // 최대 개수 제한은 메모리 보호를 위해 유지
+                    .weigher(CacheWeigher.INSTANCE)
+                    .maximumWeight(type.getMaximumWeight(scale)); // 바이트 한도 (메모리 보호)
 
             // 만료 시간이 0보다 클 때만 시간 설정을 적용합니다.
             // 즉, -1이나 0을 넣으면 시간 제한 코드가 실행되지 않아 '무제한'이 됩니다.
-            if (type.getExpireAfterWrite() > 0) {
+            if (store != null && type.isPersistent()) {
+                // 2차에서 복원한 항목을 남은 시간으로 넣을 수 있도록 항목별 만료 정책 사용 (동작은 expireAfterWrite와 같음)
+                WriteExpiry expiry = null;
+                if (type.getExpireAfterWrite() > 0) {
+                    expiry = new WriteExpiry(Duration.ofMinutes(type.getExpireAfterWrite()));
+                    builder.expireAfter(expiry);
+                }
+                TieredCaffeineCache.Binding binding = new TieredCaffeineCache.Binding(expiry);
+                builder.removalListener(binding);
+                tiered.put(type.getCacheName(), binding);
+            } else if (type.getExpireAfterWrite() > 0) {
                 builder.expireAfterWrite(type.getExpireAfterWrite(), TimeUnit.MINUTES);
             }
+            if (type.getRefreshAfterWrite() > 0 && type.getExpireAfterWrite() > 0
+                    && type.getRefreshAfterWrite() >= type.getExpireAfterWrite() * 60L) {
+                // 만료가 먼저 오면 미리 갱신할 기회가 없음
+                log.warn("캐시 {}: refreshAfterWrite({}초)가 만료 시간({}분)보다 길어 미리 갱신되지 않습니다.",
+                        type.getCacheName(), type.getRefreshAfterWrite(), type.getExpireAfterWrite());
+            }
 
             // 캐시 등록
             //캐시 이름과 빌드된 캐시 객체에 대해 Null 체크 명시
@@ -49,37 +148,79 @@ public class CacheConfig {
                 Objects.requireNonNull(builder.build())
             );
         }
+        if (store != null) {
+            store.retainOnly(tiered.keySet()); // persistent가 아닌 캐시의 예전 저장분 삭제
+        }
 
+        log.info("캐시 메모리 한도: 합계 {}MB (전체 예산 {}MB, 적용 비율 {}), 2차 캐시: {}",
+                CacheType.totalMemoryMb(), cacheProperties.getMaxMemoryMb(), String.format("%.2f", scale),
+                store != null ? tiered.keySet() : "사용 안 함");
         return cacheManager;
     }
 
+    /**
+     * CacheType 한도에 곱할 비율 (합계가 예산 이하이면 1)
+     */
+    public static double budgetScale(long maxMemoryMb) {
+        long total = CacheType.totalMemoryMb();
+        return (total <= maxMemoryMb || total == 0) ? 1.0 : (double) maxMemoryMb / total;
+    }
+
     /**
      * [관리 포인트] 여기서 캐시 이름과 만료 시간을 관리합니다.
      * 나중에 다른 캐시가 필요하면 여기에 한 줄만 추가하면 됩니다.
      */
     public enum CacheType {
-        // (캐시이름, 만료시간(분), 최대저장개수)
-        WEATHER("weather", 15, 100),   // 날씨: 10분 뒤 만료, 최대 100개 저장
-        USERS("users", 10, 100),           // [추천 1] 전체 유저 목록 (10분)
-        MEMOS("memos", 10, 500),           // [추천 2] 사용자별 메모 (10분)
-        ONLINE_USERS("online_users", 1, 50), // [추천 3] 접속자 목록 (1분 - 짧게!)
+        // (캐시이름, 만료시간(분), 최대 메모리(MB), 2차 캐시 저장 여부[, 미리 갱신(초), 갱신 실행기 빈 이름])
+        // 2차 캐시 파일은 암호화하지 않으므로 사용자 개인 데이터/비밀 값을 담는 캐시는 false
+        // 미리 갱신: 저장된 지 그 시간이 지난 항목이 조회되면 기존 값을 반환하고 실행기에서 다시 읽음 (@Cacheable(sync = true) 필요)
+        WEATHER("weather", 15, 8, true, 600, SchedulingConfig.UPSTREAM_REFRESH), // 날씨: 15분 뒤 만료, 10분 지나 조회되면 미리 갱신 (예보 1건이 수십 KB)
+        USERS("users", 10, 2, true, 480, SchedulingConfig.CACHE_REFRESH),        // [추천 1] 전체 유저 목록 (10분, 8분 지나면 미리 갱신)
+        MEMOS("memos", 10, 16, false),     // [추천 2] 사용자별 메모 (10분, 항목 1개 = 한 사용자의 목록 전체, 개인 데이터라 파일 저장 안 함)
+        TODOS("todos", 10, 16, false),     // 사용자별 할 일 (정렬된 목록, 변경 시 직접 갱신, 개인 데이터라 파일 저장 안 함)
+        USER_SETTINGS("user_settings", 60, 1, false), // 사용자별 설정 (거의 매 화면마다 읽고 저장은 드묾, 저장 시 직접 갱신, googleApiKey 포함이라 파일 저장 안 함)
 
         // [신규] 무제한 캐시 예시 (시간에 -1 설정)
         // 국가 코드나 카테고리 같은 데이터용
-        COMMON_CODE("common_code", -1, 1000);
+        COMMON_CODE("common_code", -1, 4, true);
 
         private final String cacheName;
         private final int expireAfterWrite;
-        private final int maximumSize;
+        private final int maximumMemoryMb;
+        private final boolean persistent;
+        private final int refreshAfterWrite;    // 초, -1이면 미리 갱신하지 않음
+        private final String refreshExecutor;   // 미리 갱신을 실행할 Executor 빈 이름
+
+        CacheType(String cacheName, int expireAfterWrite, int maximumMemoryMb, boolean persistent) {
+            this(cacheName, expireAfterWrite, maximumMemoryMb, persistent, -1, null);
+        }
 
-        CacheType(String cacheName, int expireAfterWrite, int maximumSize) {
+        CacheType(String cacheName, int expireAfterWrite, int maximumMemoryMb, boolean persistent,
+                int refreshAfterWrite, String refreshExecutor) {
             this.cacheName = cacheName;
             this.expireAfterWrite = expireAfterWrite;
-            this.maximumSize = maximumSize;
+            this.maximumMemoryMb = maximumMemoryMb;
+            this.persistent = persistent;
+            this.refreshAfterWrite = refreshAfterWrite;
+            this.refreshExecutor = refreshExecutor;
         }
 
         public String getCacheName() { return cacheName; }
         public int getExpireAfterWrite() { return expireAfterWrite; }
-        public int getMaximumSize() { return maximumSize; }
+        public int getMaximumMemoryMb() { return maximumMemoryMb; }
+        public boolean isPersistent() { return persistent; }
+        public int getRefreshAfterWrite() { return refreshAfterWrite; }
+        public String getRefreshExecutor() { return refreshExecutor; }
+
+        // 전체 예산 비율을 적용한 바이트 한도
+        public long getMaximumWeight(double scale) { return (long) (maximumMemoryMb * MB * scale); }
+
+        public static long totalMemoryMb() {
+            long total = 0;
+            for (CacheType type : values()) {
+                total += type.maximumMemoryMb;
+            }
+            return total;
+        }
     }
 }
\ No newline at end of file
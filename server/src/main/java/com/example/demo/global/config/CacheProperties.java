@@ -0,0 +1,17 @@
+package com.example.demo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache") // yml의 app.cache 밑에 있는 걸 가져옴
+public class CacheProperties {
+    private long maxMemoryMb = 64;       // 모든 캐시가 함께 쓰는 힙 한도 (CacheType별 한도의 합이 넘으면 비율대로 줄임)
+    private long dynamicCacheMemoryMb = 1; // CacheType에 없는 이름으로 만들어지는 캐시 1개의 한도
+    private boolean l2Enabled = false;     // 2차 캐시 (로컬 파일) 사용 여부. 켜면 재시작 후에도 캐시가 남아 있음
+    private String l2Path = "./data/cache-l2.mv"; // 2차 캐시 파일 (H2 파일과 같은 data 폴더)
+}
@@ -0,0 +1,21 @@
+package com.example.demo.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.code-stats") // yml의 app.code-stats 밑에 있는 걸 가져옴
+public class CodeStatsProperties {
+    private boolean watchEnabled = true;  // 파일 변경 감시로 통계를 실시간 유지할지 여부
+    private boolean pushEnabled = true;   // 통계가 바뀌면 CODE_STATS 웹소켓 이벤트 전송
+    private long pushDebounceMs = 1000;   // 연속 저장 시 이벤트를 모아서 보내는 시간 (ms)
+    private List<String> watchDirs = new ArrayList<>(List.of("client", "server")); // 프로젝트 루트 기준 감시 폴더
+    private String snapshotPath = "./data/code-stats.bin"; // 파일별 줄 수 스냅샷 (H2 파일과 같은 data 폴더)
+}
@@ -0,0 +1,46 @@
+package com.example.demo.global.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.restclient.RestClientCustomizer;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API 호출용 RestClient 설정 (OpenMeteoService, FinanceService가 주입받는 RestClient.Builder에 적용)
+ * <p>
+ * JDK HttpClient 하나를 공유해서 연결을 재사용하고, 연결/응답 제한 시간을 둡니다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 HttpClient 내부 작업도 가상 스레드에서 실행하므로,
+ * 느린 외부 API를 기다리는 동안 플랫폼 스레드를 점유하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class HttpClientConfig {
+
+    private final HttpClientProperties httpClientProperties;
+
+    @Bean
+    public RestClientCustomizer jdkRequestFactoryCustomizer(Environment environment) {
+        HttpClient.Builder httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(httpClientProperties.getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            httpClient.executor(Executors.newVirtualThreadPerTaskExecutor());
+            log.info("외부 API 호출: 가상 스레드 모드");
+        }
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient.build());
+        requestFactory.setReadTimeout(Duration.ofMillis(httpClientProperties.getReadTimeoutMs()));
+        return builder -> builder.requestFactory(requestFactory);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.http-client") // yml의 app.http-client 밑에 있는 걸 가져옴
+public class HttpClientProperties {
+    private long connectTimeoutMs = 3000;  // 외부 API 연결 제한 시간 (ms)
+    private long readTimeoutMs = 10000;    // 외부 API 응답 제한 시간 (ms), 느린 API가 요청 스레드를 무한정 붙잡지 않도록
+}
@@ -0,0 +1,16 @@
+package com.example.demo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.presence") // yml의 app.presence 밑에 있는 걸 가져옴
+public class PresenceProperties {
+    private boolean persistToDb = false;   // users.is_online 컬럼에도 비동기로 기록할지 여부
+    private long flushIntervalMs = 5000;   // DB 반영 주기 (ms)
+    private long broadcastWindowMs = 250;  // USER_UPDATE 방송을 모아서 보내는 시간 창 (ms)
+}
@@ -0,0 +1,91 @@
+package com.example.demo.global.config;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @Scheduled 작업용 스케줄러 (작업 종류별로 스레드 풀 분리)
+ * <p>
+ * 기본 스케줄러는 스레드 1개를 모든 작업이 나눠 쓰므로, 0.5초 방송이 웹소켓 전송에 묶이면
+ * 새벽 정리 작업까지 같이 밀립니다. 작업마다 @Scheduled(scheduler = ...)로 풀을 지정합니다.
+ * qualifier 없는 @Scheduled는 taskScheduler 이름을 함께 가진 maintenance 풀에서 실행됩니다.
+ * 풀 상태는 Actuator의 executor.* 메트릭(name 태그 = 빈 이름)으로 확인합니다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 풀의 스레드를 가상 스레드로 만듭니다.
+ * </p>
+ * <p>
+ * 스케줄러도 Executor이므로 Boot는 기본 applicationTaskExecutor를 만들지 않습니다.
+ * 그러면 @Async가 풀 없는 SimpleAsyncTaskExecutor로 떨어지므로, 같은 이름의 실행기를 여기서 직접 등록합니다.
+ * </p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SchedulingConfig {
+
+    public static final String REALTIME = "realtimeScheduler";
+    public static final String MAINTENANCE = "maintenanceScheduler";
+    public static final String CACHE_REFRESH = "cacheRefreshScheduler";
+    public static final String UPSTREAM_REFRESH = "upstreamRefreshScheduler";
+    public static final String ASYNC = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME; // @Async("...")에 사용
+
+    private final SchedulingProperties schedulingProperties;
+    private final Environment environment;
+
+    // 실시간 방송 (SYSTEM_STATUS, USER_UPDATE)
+    @Bean(name = REALTIME)
+    public ThreadPoolTaskScheduler realtimeScheduler() {
+        return createScheduler("realtime-", schedulingProperties.getRealtimePoolSize());
+    }
+
+    // 정리/DB 반영 (세션 만료, 접속 로그 보관, 접속 상태 반영)
+    @Bean(name = {MAINTENANCE, "taskScheduler"})
+    public ThreadPoolTaskScheduler maintenanceScheduler() {
+        return createScheduler("maintenance-", schedulingProperties.getMaintenancePoolSize());
+    }
+
+    // 캐시 갱신 (DB에서 다시 읽는 캐시의 미리 갱신)
+    @Bean(name = CACHE_REFRESH)
+    public ThreadPoolTaskScheduler cacheRefreshScheduler() {
+        return createScheduler("cache-refresh-", schedulingProperties.getCacheRefreshPoolSize());
+    }
+
+    // 외부 API 캐시 갱신 (날씨) - 응답이 느려도 DB 캐시 갱신을 막지 않도록 분리
+    @Bean(name = UPSTREAM_REFRESH)
+    public ThreadPoolTaskScheduler upstreamRefreshScheduler() {
+        return createScheduler("upstream-refresh-", schedulingProperties.getUpstreamRefreshPoolSize());
+    }
+
+    // @Async 작업 (spring.task.execution.* 설정 적용, 가상 스레드 모드에서는 작업마다 가상 스레드)
+    // taskExecutor 이름도 함께 가져서 실행기를 지정하지 않은 @Async도 이 실행기를 사용
+    @Bean(name = {ASYNC, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+            SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return simpleAsyncTaskExecutorBuilder.virtualThreads(true).build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    private ThreadPoolTaskScheduler createScheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            scheduler.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+        }
+        scheduler.setRemoveOnCancelPolicy(true);
+        // 종료 시 실행 중인 작업(배치 삭제 등)이 끝날 때까지 잠시 대기
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
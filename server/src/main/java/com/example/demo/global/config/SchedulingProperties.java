@@ -0,0 +1,17 @@
+package com.example.demo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.scheduling") // yml의 app.scheduling 밑에 있는 걸 가져옴
+public class SchedulingProperties {
+    private int realtimePoolSize = 2;      // 실시간 방송 (SYSTEM_STATUS, USER_UPDATE)
+    private int maintenancePoolSize = 1;   // 정리/DB 반영 (세션 만료, 접속 로그 보관, 접속 상태 반영)
+    private int cacheRefreshPoolSize = 1;  // 캐시 갱신
+    private int upstreamRefreshPoolSize = 2; // 외부 API 캐시 갱신 (날씨)
+}
@@ -1,7 +1,9 @@
 package com.example.demo.global.config;
 
+import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,6 +15,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -23,6 +27,7 @@ import com.example.demo.global.security.JwtAuthenticationFilter;
 import com.example.demo.global.security.JwtTokenProvider;
 import com.example.demo.global.util.CookieUtil;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -35,6 +40,8 @@ public class SecurityConfig {
     private final CookieUtil cookieUtil; // 필터 주입용
     // CorsProperties 설정 클래스 주입
     private final CorsProperties corsProperties;
+    // 인증 필터 처리 시간 측정용
+    private final MeterRegistry meterRegistry;
 
     // 비밀번호 암호화 기계 등록 (이게 있어야 로그인 가능)
     @Bean
@@ -49,7 +56,7 @@ public class SecurityConfig {
 
     // 2. 보안 필터 체인 설정 (문지기 설정)
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, ManagementServerProperties managementServerProperties) throws Exception {
         http
             .httpBasic(basic -> basic.disable()) // 기본 로그인 창 끄기
             .csrf(csrf -> csrf.disable()) // CSRF 끄기 (JWT 쓸 땐 필요 없음)
@@ -66,14 +73,30 @@ public class SecurityConfig {
                     "/api/auth/check",
                     "/api/auth/refresh"
                 ).permitAll()
+                // 관리 포트(management.server, 기본 127.0.0.1만 바인딩)로 들어온 상태 확인/메트릭 조회는 토큰 없이 허용 (Prometheus 수집용)
+                .requestMatchers(onManagementPort(managementServerProperties.getPort(),
+                        "/actuator/health", "/actuator/prometheus", "/actuator/metrics/**")).permitAll()
+                // 그 외 메트릭 조회와 캐시 크기 변경/삭제 등 운영 도구는 관리자만
+                .requestMatchers("/actuator/prometheus", "/actuator/metrics/**",
+                        "/actuator/cacheadmin/**", "/actuator/caches/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             // [수정] cookieUtil 추가 주입
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, sessionMapper, cookieUtil), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, sessionMapper, cookieUtil, meterRegistry), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // 관리 포트로 들어온 요청 중 경로가 일치하는 것 (관리 포트를 따로 두지 않았으면 아무것도 일치하지 않음)
+    private static RequestMatcher onManagementPort(Integer managementPort, String... patterns) {
+        List<RequestMatcher> paths = Arrays.stream(patterns)
+                .map(pattern -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(pattern))
+                .toList();
+        return request -> managementPort != null && managementPort > 0
+                && request.getLocalPort() == managementPort
+                && paths.stream().anyMatch(path -> path.matches(request));
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
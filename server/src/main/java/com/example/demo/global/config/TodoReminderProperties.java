@@ -0,0 +1,17 @@
+package com.example.demo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.todo-reminder") // yml의 app.todo-reminder 밑에 있는 걸 가져옴
+public class TodoReminderProperties {
+    private boolean enabled = true;         // 마감 알림(TODO_DUE 웹소켓 이벤트) 사용 여부
+    private long tickMs = 1000;             // 타이밍 휠 한 칸의 시간 (알림 정밀도)
+    private int wheelSize = 4096;           // 휠 칸 수 (2의 거듭제곱). 한 바퀴보다 먼 알림은 대기열에 보관
+    private long remindBeforeMinutes = 0;   // 마감 몇 분 전에 알릴지 (0 = 마감 시각)
+}
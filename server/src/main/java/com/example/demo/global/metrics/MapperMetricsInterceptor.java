@@ -0,0 +1,80 @@
+package com.example.demo.global.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * MyBatis 매퍼 메서드별 실행 시간 측정
+ * <p>
+ * 메트릭: mybatis.mapper (tags: mapper=SessionMapper, method=findBySessionId, type=SELECT, outcome)
+ * Interceptor 빈으로 등록하면 MyBatis 자동 설정이 모든 매퍼에 적용하므로 매퍼 코드는 바꿀 필요가 없습니다.
+ * Timer는 매퍼 메서드(MappedStatement id)와 outcome별로 한 번만 만들어 두고 재사용합니다 (호출마다 레지스트리 조회 없음).
+ * </p>
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    private static final String METRIC_NAME = "mybatis.mapper";
+
+    private final MeterRegistry meterRegistry;
+    // MappedStatement id -> Timer (outcome별)
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    public MapperMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            Map<String, Timer> timers = success ? successTimers : errorTimers;
+            Timer timer = timers.get(ms.getId());
+            if (timer == null) { // 처음 한 번만 등록 (이후에는 조회만)
+                String outcome = success ? "success" : "error";
+                timer = timers.computeIfAbsent(ms.getId(), id -> newTimer(ms, outcome));
+            }
+            sample.stop(timer);
+        }
+    }
+
+    private Timer newTimer(MappedStatement ms, String outcome) {
+        // ms.getId() = com.example.demo.domain.user.mapper.SessionMapper.findBySessionId
+        String id = ms.getId();
+        int methodDot = id.lastIndexOf('.');
+        int mapperDot = methodDot > 0 ? id.lastIndexOf('.', methodDot - 1) : -1;
+        String mapper = methodDot > 0 ? id.substring(mapperDot + 1, methodDot) : "unknown";
+        return Timer.builder(METRIC_NAME)
+                .description("MyBatis 매퍼 호출 시간")
+                .tag("mapper", mapper)
+                .tag("method", id.substring(methodDot + 1))
+                .tag("type", ms.getSqlCommandType().name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.global.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * @Scheduled 작업의 지연(tick lag) 측정과 밀린 tick 건너뛰기
+ * <p>
+ * 메트릭 (tag: job)
+ * <ul>
+ *   <li>scheduler.tick.lag: 예정 시각보다 늦게 시작한 시간 (풀이 바쁘거나 이전 실행이 길어진 정도)</li>
+ *   <li>scheduler.tick.duration: 실행 시간</li>
+ *   <li>scheduler.tick.skipped: 건너뛴 tick 수</li>
+ * </ul>
+ * fixedRate 작업은 실행이 주기보다 길어지면 밀린 실행을 연달아 몰아서 실행하므로,
+ * 한 주기 이상 늦은 tick은 실행하지 않고 건너뜁니다 (예: 0.5초 방송은 최신 상태 1번이면 충분).
+ * </p>
+ */
+@Component
+public class SchedulerMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Tick> ticks = new ConcurrentHashMap<>();
+
+    public SchedulerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * fixedRate 작업 1회 실행 (주기 이상 밀린 tick은 건너뜀)
+     */
+    public void fixedRate(String job, long periodMs, Runnable task) {
+        ticks.computeIfAbsent(job, this::newTick).runFixedRate(TimeUnit.MILLISECONDS.toNanos(periodMs), task);
+    }
+
+    /**
+     * fixedDelay 작업 1회 실행 (이전 실행 종료 + delay 기준으로 지연 측정)
+     */
+    public void fixedDelay(String job, long delayMs, Runnable task) {
+        ticks.computeIfAbsent(job, this::newTick).runFixedDelay(TimeUnit.MILLISECONDS.toNanos(delayMs), task);
+    }
+
+    private Tick newTick(String job) {
+        return new Tick(
+                Timer.builder("scheduler.tick.lag")
+                        .description("예정 시각 대비 시작 지연")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                Timer.builder("scheduler.tick.duration")
+                        .description("작업 실행 시간")
+                        .tag("job", job)
+                        .register(meterRegistry),
+                Counter.builder("scheduler.tick.skipped")
+                        .description("밀려서 건너뛴 실행 수")
+                        .tag("job", job)
+                        .register(meterRegistry));
+    }
+
+    // 작업 1개의 실행 상태 (예정 시각은 스케줄러가 같은 작업을 겹쳐 실행하지 않으므로 순서대로 갱신됨)
+    private static final class Tick {
+        private final Timer lag;
+        private final Timer duration;
+        private final Counter skipped;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile long nextDueNanos;   // fixedRate: 다음 예정 시각 (스케줄러와 같은 시작 + n * 주기)
+        private volatile long lastEndNanos;   // fixedDelay: 이전 실행 종료 시각
+
+        private Tick(Timer lag, Timer duration, Counter skipped) {
+            this.lag = lag;
+            this.duration = duration;
+            this.skipped = skipped;
+        }
+
+        private void runFixedRate(long periodNanos, Runnable task) {
+            long now = System.nanoTime();
+            long due = nextDueNanos == 0 ? now : nextDueNanos;
+            nextDueNanos = due + periodNanos;
+            long late = Math.max(0, now - due);
+            lag.record(late, TimeUnit.NANOSECONDS);
+            if (late >= periodNanos) {
+                skipped.increment(); // 밀린 tick: 다음 예정 시각까지 건너뜀
+                return;
+            }
+            execute(task);
+        }
+
+        private void runFixedDelay(long delayNanos, Runnable task) {
+            long now = System.nanoTime();
+            if (lastEndNanos != 0) {
+                lag.record(Math.max(0, now - (lastEndNanos + delayNanos)), TimeUnit.NANOSECONDS);
+            }
+            execute(task);
+            lastEndNanos = System.nanoTime();
+        }
+
+        private void execute(Runnable task) {
+            // 가상 스레드 스케줄러 등에서 이전 실행이 아직 진행 중이면 겹쳐 실행하지 않음
+            if (!running.compareAndSet(false, true)) {
+                skipped.increment();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                running.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.global.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 외부 API 호출 지연 측정 (Open-Meteo, Nominatim, Frankfurter)
+ * <p>
+ * 메트릭: upstream.requests (tags: upstream, outcome=success|error)
+ * URL에 좌표/통화 코드가 들어가므로 URL 대신 upstream 이름으로만 구분합니다 (태그 개수 폭증 방지).
+ * 백분위 히스토그램은 application.yml의 management.metrics.distribution 설정으로 켭니다.
+ * Timer는 upstream과 outcome별로 한 번만 만들어 두고 재사용합니다.
+ * </p>
+ */
+@Component
+public class UpstreamMetrics {
+
+    public static final String OPEN_METEO = "open-meteo";
+    public static final String NOMINATIM = "nominatim";
+    public static final String FRANKFURTER = "frankfurter";
+
+    private static final String METRIC_NAME = "upstream.requests";
+
+    private final MeterRegistry meterRegistry;
+    // upstream 이름 -> Timer (outcome별)
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    public UpstreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 호출 1건 측정. 예외는 그대로 다시 던짐 (outcome=error로 기록)
+     */
+    public <T> T record(String upstream, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } finally {
+            Map<String, Timer> timers = success ? successTimers : errorTimers;
+            Timer timer = timers.get(upstream);
+            if (timer == null) { // 처음 한 번만 등록 (이후에는 조회만)
+                String outcome = success ? "success" : "error";
+                timer = timers.computeIfAbsent(upstream, name -> newTimer(name, outcome));
+            }
+            sample.stop(timer);
+        }
+    }
+
+    private Timer newTimer(String upstream, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("외부 API 호출 시간")
+                .tag("upstream", upstream)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.global.security;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,6 +11,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.example.demo.domain.user.mapper.SessionMapper;
 import com.example.demo.global.util.CookieUtil;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,9 +24,18 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 인증 결과 (auth.filter 메트릭의 outcome 태그)
+    private static final String OUTCOME_ANONYMOUS = "anonymous";         // 토큰 없음
+    private static final String OUTCOME_EXPIRED = "expired";             // 만료/검증 실패 (갱신 대기)
+    private static final String OUTCOME_INVALID = "invalid";             // 세션 ID 없는 토큰 -> 401
+    private static final String OUTCOME_REVOKED = "revoked";             // 강퇴된 세션 -> 401
+    private static final String OUTCOME_AUTHENTICATED = "authenticated"; // 인증 성공
+
     private final JwtTokenProvider jwtTokenProvider;
     private final SessionMapper sessionMapper;
     private final CookieUtil cookieUtil;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>(); // outcome -> auth.filter Timer (요청마다 등록하지 않도록)
 
     /**
      * 필터를 타지 않는 경로 (인증 로직 자체를 처리하는 경로들)
@@ -36,19 +49,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        // 인증 단계만 측정 (뒤에 이어지는 컨트롤러 처리 시간은 제외)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = authenticate(request);
+        Timer timer = timers.get(outcome);
+        if (timer == null) { // 처음 한 번만 등록 (이후에는 조회만)
+            timer = timers.computeIfAbsent(outcome, this::newTimer);
+        }
+        sample.stop(timer);
+
+        switch (outcome) {
+            case OUTCOME_INVALID -> clearCookieAndFail(request, response, "Invalid Token");
+            case OUTCOME_REVOKED -> clearCookieAndFail(request, response, "Session Revoked");
+            // 다음 단계로 진행
+            default -> filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * 토큰 검사 후 결과 반환 (성공 시 SecurityContext 설정)
+     */
+    private String authenticate(HttpServletRequest request) {
         String token = jwtTokenProvider.resolveToken(request);
 
         // 1. 토큰이 없는 경우 -> 다음 필터(Spring Security)에서 처리하도록 위임
         if (token == null) {
-            filterChain.doFilter(request, response);
-            return;
+            return OUTCOME_ANONYMOUS;
         }
 
         // 2. 토큰이 있지만 만료된 경우 (validateToken == false)
         // -> 쿠키를 지우지 않음! 프론트엔드가 Refresh Token으로 갱신할 기회를 줘야 함.
         if (!jwtTokenProvider.validateToken(token)) {
-            filterChain.doFilter(request, response);
-            return;
+            return OUTCOME_EXPIRED;
         }
 
         // 3. 토큰이 유효한 경우 (서명 OK, 만료 안됨)
@@ -56,16 +88,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 세션 ID가 없으면 -> 유령 토큰이므로 즉시 차단!
         if (sessionId == null) {
             log.warn("Invalid Token Structure: No Session ID - URL: {}", request.getRequestURL());
-            clearCookieAndFail(request, response, "Invalid Token");
-            return;
+            return OUTCOME_INVALID;
         }
 
         // 4. [핵심] DB 세션 존재 여부 확인 (강퇴 여부 체크)
         if (sessionMapper.findBySessionId(sessionId) == null) {
             log.warn("Session Revoked (Kicked) - ID: {}, URL: {}", sessionId, request.getRequestURL());
             // 세션이 DB에서 사라진 경우에만 확실하게 쿠키를 삭제함 (데드락 방지)
-            clearCookieAndFail(request, response, "Session Revoked");
-            return;
+            return OUTCOME_REVOKED;
         }
 
         // 5. 인증 성공
@@ -73,8 +103,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(auth);
         // 마지막 접속 시간 업데이트 (세션 활동 추적)
         sessionMapper.updateLastAccessedAt(sessionId);
-        // 다음 단계로 진행
-        filterChain.doFilter(request, response);
+        return OUTCOME_AUTHENTICATED;
+    }
+
+    private Timer newTimer(String outcome) {
+        return Timer.builder("auth.filter")
+                .description("JWT 인증 필터 처리 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     private void clearCookieAndFail(HttpServletRequest request, HttpServletResponse response, String msg) throws IOException {
@@ -0,0 +1,34 @@
+package com.example.demo.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티 클래스
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행 (롤백되면 실행하지 않음)
+     * <p>
+     * 캐시를 DB와 같은 내용으로 직접 고칠 때(write-through) 사용합니다.
+     * 커밋 전에 캐시를 고치면 롤백 시 캐시에만 없는 데이터가 남기 때문입니다.
+     * 트랜잭션 밖에서 호출하면 바로 실행합니다.
+     * </p>
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
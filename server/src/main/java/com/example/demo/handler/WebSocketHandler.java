@@ -1,9 +1,12 @@
 package com.example.demo.handler;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
@@ -19,14 +22,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class WebSocketHandler extends TextWebSocketHandler {
 
+    // 세션별 전송 대기 수를 담는 속성 키 (전송 중 1 + 잠금 대기 중인 스레드 수)
+    private static final String SEND_QUEUE_DEPTH = "sendQueueDepth";
+    // 세션별 전송 잠금 속성 키 (synchronized는 Java 21 가상 스레드에서 캐리어 스레드를 붙잡으므로 ReentrantLock 사용)
+    private static final String SEND_LOCK = "sendLock";
+
     // [세션 관리] 모든 접속자 (채팅, 관제 등 통합)
     private static final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
     // [모듈 주입] 각 기능별 전문가(컴포넌트)들을 데려옵니다.
@@ -36,6 +45,39 @@ public class WebSocketHandler extends TextWebSocketHandler {
     // JSON 변환기
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // [메트릭] 방송 프레임/바이트, 전송 실패, 전체 전송 대기 수
+    private final Counter broadcastFrames;
+    private final Counter broadcastBytes;
+    private final Counter sendErrors;
+    private final AtomicInteger pendingSends = new AtomicInteger();
+
+    public WebSocketHandler(ChatService chatService, SystemStatusService systemStatusService,
+            SessionService sessionService, MeterRegistry meterRegistry) {
+        this.chatService = chatService;
+        this.systemStatusService = systemStatusService;
+        this.sessionService = sessionService;
+
+        Gauge.builder("websocket.sessions", sessions, Set::size)
+                .description("열려 있는 웹소켓 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.send.pending", pendingSends, AtomicInteger::get)
+                .description("전송 중이거나 세션 잠금을 기다리는 메시지 수 (전체)")
+                .register(meterRegistry);
+        Gauge.builder("websocket.send.pending.max", sessions, WebSocketHandler::maxSendQueueDepth)
+                .description("세션 하나에 밀려 있는 메시지 수의 최댓값")
+                .register(meterRegistry);
+        this.broadcastFrames = Counter.builder("websocket.broadcast.frames")
+                .description("전송한 프레임 수")
+                .register(meterRegistry);
+        this.broadcastBytes = Counter.builder("websocket.broadcast.bytes")
+                .description("전송한 바이트 수 (UTF-8)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.sendErrors = Counter.builder("websocket.send.errors")
+                .description("전송 실패 수 (이미 닫힌 세션 등)")
+                .register(meterRegistry);
+    }
+
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         
@@ -115,27 +157,69 @@ public class WebSocketHandler extends TextWebSocketHandler {
             return;
         }
         TextMessage message = new TextMessage(jsonMessage);
+        // 바이트 수는 메시지당 한 번만 계산 (getPayloadLength()는 호출마다 인코딩함)
+        int bytes = jsonMessage.getBytes(StandardCharsets.UTF_8).length;
         for (WebSocketSession session : sessions) {
-            broadcastToTarget(session, message);
+            send(session, message, bytes);
         }
     }
 
     public void broadcastToTarget(WebSocketSession session, TextMessage message) {
-        // [수정] 세션 상태 체크를 synchronized 블록 내부로 이동 (레이스 컨디션 방지)
-        synchronized (session) {
-            // 세션이 열려있는지 확인 (동기화 블록 내에서 다시 확인)
-            if (!session.isOpen()) {
-                return;
-            }
+        send(session, message, message.getPayloadLength());
+    }
+
+    private void send(WebSocketSession session, TextMessage message, int bytes) {
+        AtomicInteger depth = sendQueueDepth(session);
+        depth.incrementAndGet();
+        pendingSends.incrementAndGet();
+        try {
+            // [수정] 세션 상태 체크를 잠금 내부로 이동 (레이스 컨디션 방지)
+            ReentrantLock lock = sendLock(session);
+            lock.lock();
             try {
-                session.sendMessage(message);
-            } catch (IllegalStateException e) {
-                // 세션이 전송 중에关闭된 경우 - 정상적인 상황으로 간주
-                log.debug("메시지 전송 중 세션关闭 (정상): {}", session.getId());
-            } catch (IOException e) {
-                log.debug("메시지 전송 실패 (클라이언트 연결 종료됨): {}", session.getId());
+                // 세션이 열려있는지 확인 (잠금 안에서 다시 확인)
+                if (!session.isOpen()) {
+                    return;
+                }
+                try {
+                    session.sendMessage(message);
+                    broadcastFrames.increment();
+                    broadcastBytes.increment(bytes);
+                } catch (IllegalStateException e) {
+                    // 세션이 전송 중에关闭된 경우 - 정상적인 상황으로 간주
+                    sendErrors.increment();
+                    log.debug("메시지 전송 중 세션关闭 (정상): {}", session.getId());
+                } catch (IOException e) {
+                    sendErrors.increment();
+                    log.debug("메시지 전송 실패 (클라이언트 연결 종료됨): {}", session.getId());
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            depth.decrementAndGet();
+            pendingSends.decrementAndGet();
+        }
+    }
+
+    private static AtomicInteger sendQueueDepth(WebSocketSession session) {
+        Object depth = session.getAttributes().computeIfAbsent(SEND_QUEUE_DEPTH, key -> new AtomicInteger());
+        return (AtomicInteger) depth;
+    }
+
+    private static ReentrantLock sendLock(WebSocketSession session) {
+        Object lock = session.getAttributes().computeIfAbsent(SEND_LOCK, key -> new ReentrantLock());
+        return (ReentrantLock) lock;
+    }
+
+    private static double maxSendQueueDepth(Set<WebSocketSession> sessions) {
+        int max = 0;
+        for (WebSocketSession session : sessions) {
+            if (session.getAttributes().get(SEND_QUEUE_DEPTH) instanceof AtomicInteger depth) {
+                max = Math.max(max, depth.get());
             }
         }
+        return max;
     }
 
     // 유틸: ID 파싱 (공용 CookieUtil.getUserIdFromSession 사용)
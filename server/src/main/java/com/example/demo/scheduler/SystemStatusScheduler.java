@@ -1,5 +1,6 @@
 package com.example.demo.scheduler;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 import org.springframework.scheduling.annotation.Scheduled;
@@ -7,6 +8,10 @@ import org.springframework.stereotype.Component;
 
 import com.example.demo.domain.stats.service.SystemStatusService;
 import com.example.demo.domain.user.mapper.SessionMapper;
+import com.example.demo.domain.user.service.AccessLogRetentionService;
+import com.example.demo.global.config.AccessLogProperties;
+import com.example.demo.global.config.SchedulingConfig;
+import com.example.demo.global.metrics.SchedulerMetrics;
 import com.example.demo.handler.WebSocketHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -18,32 +23,57 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SystemStatusScheduler {
 
+    private static final long STATUS_INTERVAL_MS = 500;
+
     private final SessionMapper sessionMapper;
+    private final AccessLogRetentionService accessLogRetentionService;
+    private final AccessLogProperties accessLogProperties;
 
     private final WebSocketHandler webSocketHandler;
     private final SystemStatusService systemStatusService;
+    private final SchedulerMetrics schedulerMetrics;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // 0.5초마다 방송 버튼 누름
-    @Scheduled(fixedRate = 500)
+    // 0.5초마다 방송 버튼 누름 (실시간 풀, 전송이 밀려 한 주기 이상 늦은 tick은 건너뜀)
+    @Scheduled(fixedRate = STATUS_INTERVAL_MS, scheduler = SchedulingConfig.REALTIME)
     public void sendSystemStatus() {
-        try {
-            // 1. Service에서 데이터 가져오기 (Logic)
-            Map<String, Object> stats = systemStatusService.getCurrentSystemStatus();
-            
-            // 2. Handler로 방송하기 (View/Routing)
-            webSocketHandler.broadcast(objectMapper.writeValueAsString(stats));
-        } catch (Exception e) {
-            log.error("시스템 상태 방송 실패", e);
-        }
+        schedulerMetrics.fixedRate("system-status", STATUS_INTERVAL_MS, () -> {
+            try {
+                // 1. Service에서 데이터 가져오기 (Logic)
+                Map<String, Object> stats = systemStatusService.getCurrentSystemStatus();
+
+                // 2. Handler로 방송하기 (View/Routing)
+                webSocketHandler.broadcast(objectMapper.writeValueAsString(stats));
+            } catch (Exception e) {
+                log.error("시스템 상태 방송 실패", e);
+            }
+        });
     }
 
-    // 매일 새벽 4시에 실행
-    @Scheduled(cron = "0 0 4 * * *")
+    // 매일 새벽 4시에 실행 (정리 풀, 방송과 스레드를 나눠 쓰지 않음)
+    @Scheduled(cron = "0 0 4 * * *", scheduler = SchedulingConfig.MAINTENANCE)
     public void cleanupExpiredSessions() {
         log.info("만료된 세션 정리 시작...");
         // 7일 동안 접속 안 한 기기는 로그인 풀림 처리 (DB 삭제)
         sessionMapper.deleteExpiredSessions(7);
         log.info("만료된 세션 정리 완료.");
     }
+
+    // 매일 새벽 4시 30분에 실행 (세션 정리와 겹치지 않게)
+    @Scheduled(cron = "0 30 4 * * *", scheduler = SchedulingConfig.MAINTENANCE)
+    public void cleanupExpiredAccessLogs() {
+        if (!accessLogProperties.isRetentionEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(accessLogProperties.getRetentionDays());
+        log.info("접속 로그 보관 정리 시작... (기준: {} 이전)", cutoff);
+        long total = 0;
+        int deleted;
+        // 배치 단위로 나눠서 커밋하므로 테이블을 오래 잠그지 않음
+        do {
+            deleted = accessLogRetentionService.purgeBatch(cutoff, accessLogProperties.getBatchSize());
+            total += deleted;
+        } while (deleted > 0);
+        log.info("접속 로그 보관 정리 완료. 집계 후 삭제된 로그: {}건", total);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
--- DROP TABLE IF EXISTS access_log;
--- DROP TABLE IF EXISTS refresh_token;
--- DROP TABLE IF EXISTS users;
+-- [V1] 초기 스키마 (기존 schema.sql)
+-- 이미 테이블이 있는 DB에서도 그대로 실행될 수 있도록 IF NOT EXISTS를 유지합니다.
+-- 이후 스키마 변경은 이 파일을 고치지 말고 V2, V3... 새 파일로 추가하세요.
 
 -- 사용자 테이블
 CREATE TABLE if not exists users (
@@ -69,6 +69,17 @@ CREATE TABLE if not exists access_log (
     log_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id)
 );
+-- 사용자별 최신 로그 조회(키셋 페이지네이션)용 인덱스
+CREATE INDEX IF NOT EXISTS idx_access_log_user_time ON access_log (user_id, log_time);
+
+-- 접속 로그 일별 집계 테이블 (보관 기간이 지난 원본 로그를 삭제하기 전에 집계)
+CREATE TABLE if not exists access_log_daily (
+    log_date DATE NOT NULL,
+    user_id VARCHAR(50) NOT NULL,  -- 원본 user_id가 NULL이면 '-'
+    type VARCHAR(50) NOT NULL,     -- 원본 type이 NULL이면 'UNKNOWN'
+    cnt BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (log_date, user_id, type)
+);
 
 -- 메모 테이블
 CREATE TABLE if not exists memo (
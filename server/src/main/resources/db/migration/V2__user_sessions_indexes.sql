@@ -0,0 +1,12 @@
+-- [V2] user_sessions 조회 인덱스
+-- 기존에는 PK만 있어서 로그인/인증/정리 쿼리가 모두 테이블 전체를 훑었습니다.
+
+-- 로그인 시 세션 재사용 조회 (SessionMapper.findByUserIdAndDeviceId)
+-- user_id 단독 조회/삭제(findByUserId, terminateOthers, deleteByUserId)도 앞쪽 컬럼으로 사용
+CREATE INDEX IF NOT EXISTS idx_user_sessions_user_device ON user_sessions (user_id, device_id);
+
+-- 리프레시 토큰으로 세션 조회 (SessionMapper.findByRefreshToken)
+CREATE INDEX IF NOT EXISTS idx_user_sessions_refresh_token ON user_sessions (refresh_token);
+
+-- 오래된 세션 정리 범위 조회 (SessionMapper.deleteExpiredSessions)
+CREATE INDEX IF NOT EXISTS idx_user_sessions_last_accessed ON user_sessions (last_accessed_at);
@@ -0,0 +1,5 @@
+-- [V3] todos 목록 조회 인덱스
+-- TodoMapper.findByUserId (WHERE user_id = ? ORDER BY is_completed, due_date, created_at DESC)가
+-- 캐시 미스 때마다 테이블 전체를 훑고 정렬하지 않도록, 조회 조건 + 정렬 앞쪽 컬럼 순서로 인덱스를 둡니다.
+-- user_id 단독 조회와 삭제(TodoMapper.delete)도 앞쪽 컬럼으로 사용
+CREATE INDEX IF NOT EXISTS idx_todos_user_completed_due ON todos (user_id, is_completed, due_date);
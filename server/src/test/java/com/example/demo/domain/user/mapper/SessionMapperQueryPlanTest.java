@@ -0,0 +1,111 @@
+package com.example.demo.domain.user.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Select;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * user_sessions 조회/정리 쿼리의 실행 계획 회귀 테스트 (V2__user_sessions_indexes.sql)
+ * <p>
+ * Flyway로 메모리 H2(MySQL 모드)를 마이그레이션한 뒤, SessionMapper 애노테이션의 SQL을 그대로 꺼내
+ * EXPLAIN 결과에 V2 인덱스가 쓰이고 테이블 전체 탐색(tableScan)이 없는지 확인합니다.
+ * 쿼리나 인덱스를 바꿔서 다시 전체 탐색으로 돌아가면 여기서 실패합니다.
+ * </p>
+ */
+class SessionMapperQueryPlanTest {
+
+    private static final String URL = "jdbc:h2:mem:session_plan;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final Pattern PARAMETER = Pattern.compile("#\\{(\\w+)}");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").load().migrate();
+        connection = DriverManager.getConnection(URL, "sa", "");
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void findByUserIdAndDeviceIdUsesUserDeviceIndex() throws Exception {
+        String sql = mapperSql("findByUserIdAndDeviceId", Select.class,
+                Map.of("userId", "'user1'", "deviceId", "'device-1'"));
+
+        assertThat(explain(sql))
+                .containsIgnoringCase("IDX_USER_SESSIONS_USER_DEVICE")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void findByRefreshTokenUsesRefreshTokenIndex() throws Exception {
+        String sql = mapperSql("findByRefreshToken", Select.class, Map.of("refreshToken", "'token'"));
+
+        assertThat(explain(sql))
+                .containsIgnoringCase("IDX_USER_SESSIONS_REFRESH_TOKEN")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void deleteExpiredSessionsUsesLastAccessedIndex() throws Exception {
+        String sql = mapperSql("deleteExpiredSessions", Delete.class, Map.of("days", "30"));
+
+        assertThat(explain(sql))
+                .containsIgnoringCase("IDX_USER_SESSIONS_LAST_ACCESSED")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    // 매퍼 메서드의 SQL (#{name}은 주어진 리터럴로 치환)
+    private static String mapperSql(String methodName, Class<? extends Annotation> type, Map<String, String> literals)
+            throws ReflectiveOperationException {
+        Method method = Arrays.stream(SessionMapper.class.getMethods())
+                .filter(m -> m.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new NoSuchMethodException(methodName));
+        Annotation annotation = method.getAnnotation(type);
+        String[] value = (String[]) type.getMethod("value").invoke(annotation);
+        Matcher matcher = PARAMETER.matcher(String.join(" ", value));
+        StringBuilder sql = new StringBuilder();
+        while (matcher.find()) {
+            String literal = literals.get(matcher.group(1));
+            assertThat(literal).as("파라미터 %s의 값", matcher.group(1)).isNotNull();
+            matcher.appendReplacement(sql, Matcher.quoteReplacement(literal));
+        }
+        matcher.appendTail(sql);
+        return sql.toString();
+    }
+}